@@ -0,0 +1,46 @@
+package com.jobplatform.cache;
+
+import com.jobplatform.entity.Job;
+import com.jobplatform.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// Read-through cache of Job by jobId for the detail, apply and ownership-check
+// paths. Jobs are cached with their skills loaded so they can be serialized
+// outside the session that read them. Cached instances are shared: callers
+// that modify a job must load it from JobRepository instead.
+@Component
+public class JobCache {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Value("${jobs.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${jobs.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private BoundedCache<String, Job> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    public Optional<Job> findByJobId(String jobId) {
+        return Optional.ofNullable(cache.get(jobId, id -> jobRepository.findWithSkillsByJobId(id).orElse(null)));
+    }
+
+    public void invalidate(String jobId) {
+        cache.invalidate(jobId);
+    }
+
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+}
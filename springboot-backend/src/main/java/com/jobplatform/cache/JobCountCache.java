@@ -0,0 +1,84 @@
+package com.jobplatform.cache;
+
+import com.jobplatform.repository.JobRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Totals for JobsResponse so that listing a page does not also need a COUNT query.
+// The catalog total is exact and maintained by JobService on create and delete;
+// per-search totals expire after a TTL and are dropped on any job write.
+@Component
+public class JobCountCache implements SmartInitializingSingleton {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Value("${jobs.count-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${jobs.count-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final AtomicLong catalogCount = new AtomicLong();
+
+    private final Map<String, CachedCount> searchCounts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        catalogCount.set(jobRepository.count());
+    }
+
+    public long catalogCount() {
+        return catalogCount.get();
+    }
+
+    public void jobAdded() {
+        catalogCount.incrementAndGet();
+        invalidateSearchCounts();
+    }
+
+    public void jobRemoved() {
+        catalogCount.decrementAndGet();
+        invalidateSearchCounts();
+    }
+
+    public OptionalLong searchCount(String search) {
+        synchronized (searchCounts) {
+            CachedCount cached = searchCounts.get(search);
+            if (cached == null) {
+                return OptionalLong.empty();
+            }
+            if (cached.expiresAt() < System.currentTimeMillis()) {
+                searchCounts.remove(search);
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(cached.count());
+        }
+    }
+
+    public void putSearchCount(String search, long count) {
+        synchronized (searchCounts) {
+            searchCounts.put(search, new CachedCount(count, System.currentTimeMillis() + ttlSeconds * 1000));
+        }
+    }
+
+    public void invalidateSearchCounts() {
+        synchronized (searchCounts) {
+            searchCounts.clear();
+        }
+    }
+
+    private record CachedCount(long count, long expiresAt) {}
+}
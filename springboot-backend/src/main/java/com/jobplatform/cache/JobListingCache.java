@@ -0,0 +1,63 @@
+package com.jobplatform.cache;
+
+import com.jobplatform.dto.JobCursor;
+import com.jobplatform.dto.JobsResponse;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Cache of whole JobsResponse pages. Every job write bumps the catalog
+// generation, and the generation is part of the key, so entries from before a
+// write can never be served again; they just age out of the LRU.
+@Component
+public class JobListingCache {
+
+    @Value("${jobs.listing-cache.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${jobs.listing-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // Pages larger than this are not worth the memory
+    @Value("${jobs.listing-cache.max-limit:100}")
+    private int maxLimit;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private BoundedCache<Key, JobsResponse> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    public JobsResponse get(String search, int page, int limit, JobCursor cursor, boolean approximateTotal,
+                            boolean facets, boolean relevance, Supplier<JobsResponse> loader) {
+        if (limit > maxLimit) {
+            return loader.get();
+        }
+        // Read the generation before loading so a write that races with the load
+        // leaves the result filed under the old, already unreachable generation
+        Key key = new Key(generation.get(), search, page, limit, cursor, approximateTotal, facets, relevance);
+        JobsResponse response = cache.get(key);
+        if (response == null) {
+            response = loader.get();
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    public void catalogChanged() {
+        generation.incrementAndGet();
+    }
+
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+
+    private record Key(long generation, String search, int page, int limit, JobCursor cursor,
+                       boolean approximateTotal, boolean facets, boolean relevance) {}
+}
@@ -1,6 +1,16 @@
 package com.jobplatform.config;
 
+import com.jobplatform.storage.UploadPathResolver;
+import com.jobplatform.storage.UploadResourceResolver;
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -9,15 +19,48 @@ import java.io.File;
 @Configuration
 public class FileStorageConfig implements WebMvcConfigurer {
 
+    // Multipart spool directory. It sits next to uploads so that moving a finished
+    // part into place is a rename on the same filesystem rather than a copy.
+    public static final String INCOMING_DIR = "uploads-incoming";
+
+    @Autowired
+    private UploadPathResolver uploadPathResolver;
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties) {
+        if (multipartProperties.getLocation() == null) {
+            File incomingDir = new File(INCOMING_DIR).getAbsoluteFile();
+            incomingDir.mkdirs();
+            multipartProperties.setLocation(incomingDir.getPath());
+        }
+        return multipartProperties.createMultipartConfig();
+    }
+
+    // Static uploads are never sniffed into a more active type than their extension says
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.setHeader("X-Content-Type-Options", "nosniff");
+                return true;
+            }
+        }).addPathPatterns("/uploads/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Create uploads directory if it doesn't exist
-        File uploadsDir = new File("uploads");
+        File uploadsDir = uploadPathResolver.getRoot().toFile();
         if (!uploadsDir.exists()) {
             uploadsDir.mkdirs();
         }
 
+        // URLs stay /uploads/<filename>; the resolver finds the shard. The chain is not
+        // cached because a file can move from the flat layout to its shard at any time.
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+                .addResourceLocations("file:" + UploadPathResolver.UPLOADS_DIR + "/")
+                .resourceChain(false)
+                .addResolver(new UploadResourceResolver(uploadPathResolver));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.jobplatform.config;
 
+import com.jobplatform.security.BCryptCalibrator;
 import com.jobplatform.security.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,8 +33,8 @@ public class SecurityConfig {
     private String allowedOrigins;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(BCryptCalibrator bCryptCalibrator) {
+        return new BCryptPasswordEncoder(bCryptCalibrator.getStrength());
     }
 
     @Bean
@@ -50,8 +51,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/login").permitAll()
                 .requestMatchers("/api/jobs").permitAll()
                 .requestMatchers("/api/jobs/search").permitAll()
+                .requestMatchers("/api/jobs/suggest").permitAll()
                 .requestMatchers("/api/jobs/{jobId}").permitAll()
                 .requestMatchers("/uploads/**").permitAll()
+                .requestMatchers("/api/resumes/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 // All other requests require authentication
                 .anyRequest().authenticated()
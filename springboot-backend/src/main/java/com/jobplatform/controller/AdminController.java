@@ -1,12 +1,27 @@
 package com.jobplatform.controller;
 
+import com.jobplatform.cache.JobCache;
+import com.jobplatform.cache.JobListingCache;
+import com.jobplatform.dto.BulkProvisioningResponse;
 import com.jobplatform.entity.Job;
+import com.jobplatform.search.ResumeIndexingPipeline;
+import com.jobplatform.security.PasswordHashingExecutor;
+import com.jobplatform.security.VerifiedTokenCache;
 import com.jobplatform.service.JobService;
+import com.jobplatform.service.UserProvisioningService;
+import com.jobplatform.storage.ResumeDownloadMetrics;
+import com.jobplatform.storage.UploadShardMigrator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +32,30 @@ public class AdminController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private JobListingCache jobListingCache;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private UploadShardMigrator uploadShardMigrator;
+
+    @Autowired
+    private ResumeDownloadMetrics resumeDownloadMetrics;
+
+    @Autowired
+    private ResumeIndexingPipeline resumeIndexingPipeline;
+
     @GetMapping("/jobs")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<Job>> getAllJobsAdmin() {
@@ -34,4 +73,59 @@ public class AdminController {
 
         return ResponseEntity.ok(Map.of("message", "Job deleted successfully"));
     }
+
+    // Body is streamed: CSV with a header row when Content-Type is text/csv, NDJSON otherwise
+    @PostMapping("/users/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkProvisioningResponse> provisionUsers(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) throws IOException {
+        boolean csv = contentType != null && contentType.startsWith("text/csv");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return ResponseEntity.ok(userProvisioningService.provision(reader, csv));
+    }
+
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(Map.of(
+            "jobs", jobCache.stats(),
+            "listings", jobListingCache.stats(),
+            "tokens", verifiedTokenCache.stats()
+        ));
+    }
+
+    @GetMapping("/password-hashing/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PasswordHashingExecutor.Stats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.stats());
+    }
+
+    @GetMapping("/resumes/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResumeDownloadMetrics.Stats> getResumeDownloadStats() {
+        return ResponseEntity.ok(resumeDownloadMetrics.stats());
+    }
+
+    @GetMapping("/resumes/indexing/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResumeIndexingPipeline.Stats> getResumeIndexingStats() {
+        return ResponseEntity.ok(resumeIndexingPipeline.stats());
+    }
+
+    // Moves legacy flat uploads into the sharded layout in the background
+    @PostMapping("/uploads/migrate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> migrateUploads() {
+        if (!uploadShardMigrator.start()) {
+            return ResponseEntity.status(409).body(Map.of("detail", "Upload migration already running"));
+        }
+        return ResponseEntity.accepted().body(uploadShardMigrator.status());
+    }
+
+    @GetMapping("/uploads/migrate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UploadShardMigrator.Status> getUploadMigrationStatus() {
+        return ResponseEntity.ok(uploadShardMigrator.status());
+    }
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ package com.jobplatform.controller;
 import com.jobplatform.dto.*;
 import com.jobplatform.entity.User;
 import com.jobplatform.security.JwtUtil;
+import com.jobplatform.security.PasswordHashingRejectedException;
 import com.jobplatform.service.UserService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -66,6 +68,8 @@ public class AuthController {
 
             return ResponseEntity.ok(new AuthResponse(token, userResponse));
 
+        } catch (PasswordHashingRejectedException e) {
+            return overloaded(e);
         } catch (Exception e) {
             logger.error("Registration failed for email: {}", request.getEmail(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -110,6 +114,7 @@ public class AuthController {
             }
 
             User user = userOpt.get();
+            userService.upgradePasswordHashIfNeeded(user, request.getPassword());
             String token = jwtUtil.generateToken(user.getUserId(), user.getEmail(), user.getRole());
 
             UserResponse userResponse = new UserResponse(
@@ -122,12 +127,20 @@ public class AuthController {
 
             return ResponseEntity.ok(new AuthResponse(token, userResponse));
 
+        } catch (PasswordHashingRejectedException e) {
+            return overloaded(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("detail", "Login failed"));
         }
     }
 
+    private ResponseEntity<?> overloaded(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("detail", e.getMessage()));
+    }
+
     // Helper method to create error response map
     private static class Map {
         public static java.util.Map<String, String> of(String key, String value) {
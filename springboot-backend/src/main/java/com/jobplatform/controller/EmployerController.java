@@ -8,6 +8,7 @@ import com.jobplatform.service.ApplicationService;
 import com.jobplatform.service.JobService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,6 +28,9 @@ public class EmployerController {
     @Autowired
     private ApplicationService applicationService;
 
+    @Value("${applications.legacy-list-max:1000}")
+    private int legacyListMax;
+
     @PostMapping("/jobs")
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<Job> createJob(@Valid @RequestBody JobCreateRequest request, 
@@ -48,8 +52,8 @@ public class EmployerController {
 
     @GetMapping("/jobs")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<List<Job>> getMyJobs(@AuthenticationPrincipal UserPrincipal currentUser) {
-        List<Job> jobs = jobService.getJobsByEmployer(currentUser.getUserId());
+    public ResponseEntity<List<JobWithApplicationStats>> getMyJobs(@AuthenticationPrincipal UserPrincipal currentUser) {
+        List<JobWithApplicationStats> jobs = jobService.getJobsByEmployerWithStats(currentUser.getUserId());
         return ResponseEntity.ok(jobs);
     }
 
@@ -93,6 +97,9 @@ public class EmployerController {
     @GetMapping("/jobs/{jobId}/applications")
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<?> getJobApplications(@PathVariable String jobId, 
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) String status,
                                                @AuthenticationPrincipal UserPrincipal currentUser) {
         // Verify job ownership
         Optional<Job> jobOpt = jobService.getJobById(jobId);
@@ -100,35 +107,98 @@ public class EmployerController {
             return ResponseEntity.status(404).body(Map.of("detail", "Job not found or not owned by you"));
         }
 
-        List<Application> applications = applicationService.getApplicationsByJob(jobId);
-        return ResponseEntity.ok(applications);
+        // Without a limit the full applications are returned, as before, but only the
+        // newest legacyListMax of them; X-Truncated tells clients to switch to paging
+        if (limit == null) {
+            List<Application> applications = applicationService.getApplicationsByJob(jobId, legacyListMax + 1);
+            if (applications.size() > legacyListMax) {
+                return ResponseEntity.ok().header("X-Truncated", "true").body(applications.subList(0, legacyListMax));
+            }
+            return ResponseEntity.ok(applications);
+        }
+
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().body(Map.of("detail", "Limit must be between 1 and 100"));
+        }
+        if (status != null && !ApplicationService.isValidStatus(status)) {
+            return ResponseEntity.badRequest().body(Map.of("detail", "Invalid status"));
+        }
+        ApplicationCursor applicationCursor = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            Optional<ApplicationCursor> cursorOpt = ApplicationCursor.decode(cursor);
+            if (cursorOpt.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("detail", "Invalid cursor"));
+            }
+            applicationCursor = cursorOpt.get();
+        }
+
+        ApplicationSummaryPage page = applicationService.getApplicationSummaries(jobId, status, applicationCursor, limit);
+        return ResponseEntity.ok(page);
     }
 
-    @PutMapping("/applications/{applicationId}/status")
+    // Full application, including the cover letter, for the employer who owns the job
+    @GetMapping("/applications/{applicationId}")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<?> updateApplicationStatus(@PathVariable String applicationId,
-                                                    @Valid @RequestBody ApplicationStatusUpdateRequest request,
-                                                    @AuthenticationPrincipal UserPrincipal currentUser) {
-        
-        // Find application and verify job ownership
+    public ResponseEntity<?> getApplication(@PathVariable String applicationId,
+                                           @AuthenticationPrincipal UserPrincipal currentUser) {
         Optional<Application> applicationOpt = applicationService.getApplicationById(applicationId);
         if (applicationOpt.isEmpty()) {
             return ResponseEntity.status(404).body(Map.of("detail", "Application not found"));
         }
 
-        Application application = applicationOpt.get();
-        Optional<Job> jobOpt = jobService.getJobById(application.getJobId());
+        Optional<Job> jobOpt = jobService.getJobById(applicationOpt.get().getJobId());
+        if (jobOpt.isEmpty() || !jobOpt.get().getEmployerId().equals(currentUser.getUserId())) {
+            return ResponseEntity.status(404).body(Map.of("detail", "Application not found"));
+        }
+
+        return ResponseEntity.ok(applicationOpt.get());
+    }
+
+    // Full-text search over the resumes submitted to one of the employer's jobs
+    @GetMapping("/jobs/{jobId}/applications/search")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> searchJobApplications(@PathVariable String jobId,
+                                                  @RequestParam String q,
+                                                  @RequestParam(defaultValue = "20") int limit,
+                                                  @AuthenticationPrincipal UserPrincipal currentUser) {
+        Optional<Job> jobOpt = jobService.getJobById(jobId);
         if (jobOpt.isEmpty() || !jobOpt.get().getEmployerId().equals(currentUser.getUserId())) {
-            return ResponseEntity.status(403).body(Map.of("detail", "Not authorized to update this application"));
+            return ResponseEntity.status(404).body(Map.of("detail", "Job not found or not owned by you"));
         }
 
+        List<Application> applications = applicationService.searchApplicationsByResume(jobId, q, Math.max(1, Math.min(limit, 100)));
+        return ResponseEntity.ok(applications);
+    }
+
+    // Many status changes in one call; each item is reported as updated, not_found,
+    // forbidden, invalid_status or duplicate
+    @PutMapping("/applications/status")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<BulkStatusUpdateResponse> updateApplicationStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(applicationService.updateApplicationStatuses(currentUser.getUserId(), request.getUpdates()));
+    }
+
+    @PutMapping("/applications/{applicationId}/status")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> updateApplicationStatus(@PathVariable String applicationId,
+                                                    @Valid @RequestBody ApplicationStatusUpdateRequest request,
+                                                    @AuthenticationPrincipal UserPrincipal currentUser) {
+        
         // Validate status
-        if (!"applied".equals(request.getStatus()) && !"approved".equals(request.getStatus()) && 
-            !"rejected".equals(request.getStatus()) && !"waitlisted".equals(request.getStatus())) {
+        if (!ApplicationService.isValidStatus(request.getStatus())) {
             return ResponseEntity.badRequest().body(Map.of("detail", "Invalid status"));
         }
 
-        Optional<Application> updatedApplicationOpt = applicationService.updateApplicationStatus(applicationId, request.getStatus());
-        return ResponseEntity.ok(updatedApplicationOpt.get());
+        // Ownership is checked by the UPDATE itself
+        switch (applicationService.updateApplicationStatus(applicationId, currentUser.getUserId(), request.getStatus())) {
+            case NOT_FOUND:
+                return ResponseEntity.status(404).body(Map.of("detail", "Application not found"));
+            case FORBIDDEN:
+                return ResponseEntity.status(403).body(Map.of("detail", "Not authorized to update this application"));
+            default:
+                return ResponseEntity.ok(Map.of("applicationId", applicationId, "status", request.getStatus()));
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.jobplatform.controller;
 
+import com.jobplatform.dto.JobCursor;
 import com.jobplatform.dto.JobsResponse;
 import com.jobplatform.entity.Job;
 import com.jobplatform.service.JobService;
@@ -13,29 +14,73 @@ import java.util.Optional;
 @RequestMapping("/api")
 public class JobController {
 
+    private static final int MAX_LIMIT = 100;
+
     @Autowired
     private JobService jobService;
 
     @GetMapping("/jobs")
-    public ResponseEntity<JobsResponse> getJobs(
+    public ResponseEntity<?> getJobs(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(defaultValue = "") String search) {
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(defaultValue = "date") String sort) {
         
-        JobsResponse response = jobService.getJobs(page, limit, search);
-        return ResponseEntity.ok(response);
+        return listJobs(page, limit, search, cursor, approximateTotal, facets, sort);
     }
 
     @GetMapping("/jobs/search")
-    public ResponseEntity<JobsResponse> searchJobs(
+    public ResponseEntity<?> searchJobs(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(defaultValue = "date") String sort) {
         
-        JobsResponse response = jobService.getJobs(page, limit, keyword);
+        return listJobs(page, limit, keyword, cursor, approximateTotal, facets, sort);
+    }
+
+    private ResponseEntity<?> listJobs(int page, int limit, String search, String cursor,
+                                      boolean approximateTotal, boolean facets, String sort) {
+        if (page < 1) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("detail", "Page must be at least 1"));
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("detail", "Limit must be between 1 and 100"));
+        }
+        if (!"date".equals(sort) && !"relevance".equals(sort)) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("detail", "Invalid sort"));
+        }
+
+        JobCursor jobCursor = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            Optional<JobCursor> cursorOpt = JobCursor.decode(cursor);
+            if (cursorOpt.isEmpty()) {
+                return ResponseEntity.badRequest().body(java.util.Map.of("detail", "Invalid cursor"));
+            }
+            jobCursor = cursorOpt.get();
+        }
+
+        JobsResponse response = jobService.getJobs(page, limit, search, jobCursor, approximateTotal, facets,
+                                                   "relevance".equals(sort));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/jobs/suggest")
+    public ResponseEntity<?> suggestJobs(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("detail", "Limit must be at least 1"));
+        }
+        return ResponseEntity.ok(jobService.suggest(prefix, limit));
+    }
+
     @GetMapping("/jobs/{jobId}")
     public ResponseEntity<?> getJob(@PathVariable String jobId) {
         Optional<Job> jobOpt = jobService.getJobById(jobId);
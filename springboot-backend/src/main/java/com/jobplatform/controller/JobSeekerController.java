@@ -1,12 +1,13 @@
 package com.jobplatform.controller;
 
 import com.jobplatform.dto.ApplicationWithJobDetails;
-import com.jobplatform.entity.Application;
 import com.jobplatform.entity.Job;
 import com.jobplatform.security.UserPrincipal;
 import com.jobplatform.service.ApplicationService;
-import com.jobplatform.service.JobService;
+import com.jobplatform.storage.ResumeStorage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,9 +25,6 @@ public class JobSeekerController {
     @Autowired
     private ApplicationService applicationService;
 
-    @Autowired
-    private JobService jobService;
-
     @PostMapping("/jobs/{jobId}/apply")
     @PreAuthorize("hasRole('JOBSEEKER')")
     public ResponseEntity<?> applyToJob(
@@ -36,6 +34,7 @@ public class JobSeekerController {
             @RequestParam String phone,
             @RequestParam String coverLetter,
             @RequestParam("resume") MultipartFile resume,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserPrincipal currentUser) {
         
         try {
@@ -45,17 +44,26 @@ public class JobSeekerController {
                 return ResponseEntity.status(404).body(Map.of("detail", "Job not found"));
             }
 
-            // Check if already applied
-            if (applicationService.hasAlreadyApplied(jobId, currentUser.getUserId())) {
-                return ResponseEntity.badRequest().body(Map.of("detail", "Already applied to this job"));
+            if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 255)) {
+                return ResponseEntity.badRequest().body(Map.of("detail", "Invalid Idempotency-Key"));
+            }
+            if (!ResumeStorage.isResumeType(resume.getOriginalFilename())) {
+                return ResponseEntity.badRequest().body(Map.of("detail", "Resume must be a PDF, DOC, DOCX or TXT file"));
             }
 
-            // Create application
-            Application application = applicationService.createApplication(
-                jobId, currentUser.getUserId(), fullName, email, phone, coverLetter, resume
+            // Create application; the unique (job, applicant) index rejects duplicates
+            ApplicationService.ApplyResult result = applicationService.createApplication(
+                jobId, currentUser.getUserId(), fullName, email, phone, coverLetter, resume, idempotencyKey
             );
 
-            return ResponseEntity.ok(application);
+            switch (result.outcome()) {
+                case ALREADY_APPLIED:
+                    return ResponseEntity.badRequest().body(Map.of("detail", "Already applied to this job"));
+                case REPLAYED:
+                    return ResponseEntity.ok().header("Idempotency-Replayed", "true").body(result.application());
+                default:
+                    return ResponseEntity.ok(result.application());
+            }
 
         } catch (Exception e) {
             return ResponseEntity.status(500).body(Map.of("detail", "Application failed"));
@@ -64,22 +72,23 @@ public class JobSeekerController {
 
     @GetMapping("/jobseeker/applications")
     @PreAuthorize("hasRole('JOBSEEKER')")
-    public ResponseEntity<List<ApplicationWithJobDetails>> getMyApplications(@AuthenticationPrincipal UserPrincipal currentUser) {
-        List<Application> applications = applicationService.getApplicationsByApplicant(currentUser.getUserId());
-        
-        // Enrich with job details
-        List<ApplicationWithJobDetails> enrichedApplications = applications.stream()
-            .map(app -> {
-                Optional<Job> jobOpt = jobService.getJobById(app.getJobId());
-                if (jobOpt.isPresent()) {
-                    Job job = jobOpt.get();
-                    return new ApplicationWithJobDetails(app, job.getTitle(), job.getCompany());
-                } else {
-                    return new ApplicationWithJobDetails(app, null, null);
-                }
-            })
-            .toList();
-        
-        return ResponseEntity.ok(enrichedApplications);
+    public ResponseEntity<?> getMyApplications(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        if (page != null && page < 1) {
+            return ResponseEntity.badRequest().body(Map.of("detail", "Page must be at least 1"));
+        }
+        if (limit != null && (limit < 1 || limit > 100)) {
+            return ResponseEntity.badRequest().body(Map.of("detail", "Limit must be between 1 and 100"));
+        }
+        // Without a limit the full history is returned, as before
+        Pageable pageable = limit == null
+            ? Pageable.unpaged()
+            : PageRequest.of(page == null ? 0 : page - 1, limit);
+
+        List<ApplicationWithJobDetails> applications =
+            applicationService.getApplicationsWithJobDetails(currentUser.getUserId(), pageable);
+        return ResponseEntity.ok(applications);
     }
 }
\ No newline at end of file
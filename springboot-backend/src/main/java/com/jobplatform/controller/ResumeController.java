@@ -0,0 +1,199 @@
+package com.jobplatform.controller;
+
+import com.jobplatform.storage.ResumeDownloadMetrics;
+import com.jobplatform.storage.ResumeStorage;
+import com.jobplatform.storage.UploadPathResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+
+// Resume downloads with strong ETags, conditional GET and single byte ranges.
+// When the container supports it (Tomcat's NIO connector over plain HTTP) the
+// body is handed to sendfile so the bytes never pass through the JVM heap;
+// otherwise FileChannel.transferTo streams it straight from the page cache.
+@RestController
+@RequestMapping("/api/resumes")
+public class ResumeController {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Content-addressed blobs never change; legacy names are revalidated daily.
+    // Resumes carry personal data, so only the browser may keep a copy.
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+    private static final String LEGACY_CACHE_CONTROL = "private, max-age=86400";
+
+    // The only types shown inline; anything else the uploader named (.html, .svg,
+    // ...) is downloaded as opaque bytes so it can never run in this origin
+    private static final Map<String, String> INLINE_TYPES = Map.of(
+            "pdf", "application/pdf",
+            "doc", "application/msword",
+            "docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "txt", "text/plain;charset=UTF-8");
+
+    @Autowired
+    private UploadPathResolver uploadPathResolver;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private ResumeDownloadMetrics metrics;
+
+    @GetMapping("/{filename}")
+    public void download(@PathVariable String filename, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        if (!UploadPathResolver.isValidName(filename)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path file = uploadPathResolver.locate(filename);
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        String etag = "\"" + resumeStorage.contentHash(filename, file) + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                ResumeStorage.isImmutable(filename) ? IMMUTABLE_CACHE_CONTROL : LEGACY_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            metrics.recordNotModified(System.nanoTime() - start);
+            return;
+        }
+
+        // A Range is only honoured if If-Range, when sent, still names this version
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        long[] range = ifRange == null || ifRange.equals(etag)
+                ? parseRange(request.getHeader(HttpHeaders.RANGE), length)
+                : null;
+        if (range != null && range.length == 0) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long first = range == null ? 0 : range[0];
+        long count = range == null ? length : range[1] - range[0] + 1;
+        if (range != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + length);
+        }
+        String inlineType = INLINE_TYPES.get(extension(filename));
+        if (inlineType != null) {
+            response.setContentType(inlineType);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline");
+        } else {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+        response.setContentLengthLong(count);
+
+        boolean viaSendfile = false;
+        if (!"HEAD".equals(request.getMethod()) && count > 0) {
+            viaSendfile = Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED));
+            if (viaSendfile) {
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, first);
+                request.setAttribute(SENDFILE_END, first + count);
+            } else {
+                transfer(file, first, count, response);
+            }
+        }
+
+        // With sendfile the container writes the body after this returns, so this is handoff time
+        long elapsed = System.nanoTime() - start;
+        if (range == null) {
+            metrics.recordFull(count, viaSendfile, elapsed);
+        } else {
+            metrics.recordPartial(count, viaSendfile, elapsed);
+        }
+    }
+
+    private static String extension(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static void transfer(Path file, long position, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long end = position + count;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    // If-None-Match uses weak comparison, so W/"x" matches "x"
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // First and last byte of a single "bytes=" range; null to serve the whole
+    // file (no header, unparseable or multiple ranges), empty if unsatisfiable
+    static long[] parseRange(String header, long length) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            long first;
+            long last;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return new long[0];
+                }
+                first = Math.max(0, length - suffix);
+                last = length - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash));
+                last = dash == spec.length() - 1 ? length - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+            }
+            if (first >= length || first > last) {
+                return new long[0];
+            }
+            return new long[] {first, last};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobplatform.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+// Position in the (createdAt DESC, applicationId DESC) order of a job's
+// applications, handed to clients in opaque encoded form
+public record ApplicationCursor(LocalDateTime createdAt, String applicationId) {
+
+    public static ApplicationCursor of(ApplicationSummary summary) {
+        return new ApplicationCursor(summary.getCreatedAt(), summary.getApplicationId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<ApplicationCursor> decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                return Optional.empty();
+            }
+            return Optional.of(new ApplicationCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                                     raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
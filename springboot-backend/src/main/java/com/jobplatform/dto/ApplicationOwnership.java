@@ -0,0 +1,5 @@
+package com.jobplatform.dto;
+
+// An application's job and current status together with the employer who owns
+// that job; employerId is null when the job no longer exists
+public record ApplicationOwnership(String applicationId, String jobId, String status, String employerId) {}
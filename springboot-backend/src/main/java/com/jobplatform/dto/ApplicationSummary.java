@@ -0,0 +1,41 @@
+package com.jobplatform.dto;
+
+import java.time.LocalDateTime;
+
+// The columns an employer's application list shows; the cover letter and
+// contact details are only loaded when a single application is opened
+public class ApplicationSummary {
+    private String applicationId;
+    private String fullName;
+    private String status;
+    private LocalDateTime createdAt;
+    private String resumeFilename;
+
+    // Constructors
+    public ApplicationSummary() {}
+
+    public ApplicationSummary(String applicationId, String fullName, String status,
+                              LocalDateTime createdAt, String resumeFilename) {
+        this.applicationId = applicationId;
+        this.fullName = fullName;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.resumeFilename = resumeFilename;
+    }
+
+    // Getters and Setters
+    public String getApplicationId() { return applicationId; }
+    public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public String getResumeFilename() { return resumeFilename; }
+    public void setResumeFilename(String resumeFilename) { this.resumeFilename = resumeFilename; }
+}
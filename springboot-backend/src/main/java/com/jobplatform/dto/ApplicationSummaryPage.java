@@ -0,0 +1,28 @@
+package com.jobplatform.dto;
+
+import java.util.List;
+
+public class ApplicationSummaryPage {
+    private List<ApplicationSummary> applications;
+    private int limit;
+    private String nextCursor;
+
+    // Constructors
+    public ApplicationSummaryPage() {}
+
+    public ApplicationSummaryPage(List<ApplicationSummary> applications, int limit, String nextCursor) {
+        this.applications = applications;
+        this.limit = limit;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ApplicationSummary> getApplications() { return applications; }
+    public void setApplications(List<ApplicationSummary> applications) { this.applications = applications; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,46 @@
+package com.jobplatform.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkProvisioningResponse {
+    private int created;
+    private int skipped;
+    private List<RowError> errors = new ArrayList<>();
+
+    // Constructors
+    public BulkProvisioningResponse() {}
+
+    // Getters and Setters
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public static class RowError {
+        private int line;
+        private String email;
+        private String reason;
+
+        public RowError() {}
+
+        public RowError(int line, String email, String reason) {
+            this.line = line;
+            this.email = email;
+            this.reason = reason;
+        }
+
+        public int getLine() { return line; }
+        public void setLine(int line) { this.line = line; }
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public String getReason() { return reason; }
+        public void setReason(String reason) { this.reason = reason; }
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobplatform.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkStatusUpdateRequest {
+    @NotEmpty
+    @Size(max = 1000)
+    @Valid
+    private List<Item> updates;
+
+    // Constructors
+    public BulkStatusUpdateRequest() {}
+
+    public BulkStatusUpdateRequest(List<Item> updates) {
+        this.updates = updates;
+    }
+
+    // Getters and Setters
+    public List<Item> getUpdates() { return updates; }
+    public void setUpdates(List<Item> updates) { this.updates = updates; }
+
+    public static class Item {
+        @NotBlank
+        private String applicationId;
+
+        @NotBlank
+        private String status; // "applied", "approved", "rejected", "waitlisted"
+
+        public Item() {}
+
+        public Item(String applicationId, String status) {
+            this.applicationId = applicationId;
+            this.status = status;
+        }
+
+        public String getApplicationId() { return applicationId; }
+        public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+    }
+}
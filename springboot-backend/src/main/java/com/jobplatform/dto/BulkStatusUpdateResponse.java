@@ -0,0 +1,46 @@
+package com.jobplatform.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkStatusUpdateResponse {
+    private int updated;
+    private int skipped;
+    private List<ItemResult> results = new ArrayList<>();
+
+    // Constructors
+    public BulkStatusUpdateResponse() {}
+
+    // Getters and Setters
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public List<ItemResult> getResults() { return results; }
+    public void setResults(List<ItemResult> results) { this.results = results; }
+
+    public static class ItemResult {
+        private String applicationId;
+        private String status;
+        private String result; // "updated", "conflict", "not_found", "forbidden", "invalid_status", "duplicate"
+
+        public ItemResult() {}
+
+        public ItemResult(String applicationId, String status, String result) {
+            this.applicationId = applicationId;
+            this.status = status;
+            this.result = result;
+        }
+
+        public String getApplicationId() { return applicationId; }
+        public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+
+        public String getResult() { return result; }
+        public void setResult(String result) { this.result = result; }
+    }
+}
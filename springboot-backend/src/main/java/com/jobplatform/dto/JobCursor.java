@@ -0,0 +1,42 @@
+package com.jobplatform.dto;
+
+import com.jobplatform.entity.Job;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+// Position in the (createdAt DESC, jobId DESC) listing order. Clients only ever
+// see the opaque encoded form and hand it back unchanged.
+public record JobCursor(LocalDateTime createdAt, String jobId) {
+
+    public static JobCursor of(Job job) {
+        return new JobCursor(job.getCreatedAt(), job.getJobId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + jobId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<JobCursor> decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                return Optional.empty();
+            }
+            return Optional.of(new JobCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                             raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // True if the job comes after this cursor in listing order
+    public boolean precedes(LocalDateTime otherCreatedAt, String otherJobId) {
+        int cmp = otherCreatedAt.compareTo(createdAt);
+        return cmp < 0 || (cmp == 0 && otherJobId.compareTo(jobId) < 0);
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobplatform.dto;
+
+import com.jobplatform.entity.Job;
+
+import java.util.Map;
+
+public class JobWithApplicationStats extends Job {
+    private Map<String, Long> applicationCounts;
+
+    // Constructors
+    public JobWithApplicationStats() {
+        super();
+    }
+
+    public JobWithApplicationStats(Job job, Map<String, Long> applicationCounts) {
+        super(job.getJobId(), job.getEmployerId(), job.getTitle(), job.getCompany(), job.getLocation(),
+              job.getDescription(), job.getRequirements(), job.getSalaryRange(), job.getSkills(),
+              job.getApplicationDeadline());
+        this.setCreatedAt(job.getCreatedAt());
+        this.applicationCounts = applicationCounts;
+    }
+
+    // Getters and Setters
+    public Map<String, Long> getApplicationCounts() { return applicationCounts; }
+    public void setApplicationCounts(Map<String, Long> applicationCounts) { this.applicationCounts = applicationCounts; }
+}
@@ -2,6 +2,7 @@ package com.jobplatform.dto;
 
 import com.jobplatform.entity.Job;
 import java.util.List;
+import java.util.Map;
 
 public class JobsResponse {
     private List<Job> jobs;
@@ -9,6 +10,9 @@ public class JobsResponse {
     private int page;
     private int limit;
     private int totalPages;
+    private boolean totalApproximate;
+    private String nextCursor;
+    private Map<String, Map<String, Long>> facets;
 
     // Constructors
     public JobsResponse() {}
@@ -36,4 +40,13 @@ public class JobsResponse {
 
     public int getTotalPages() { return totalPages; }
     public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+
+    public boolean isTotalApproximate() { return totalApproximate; }
+    public void setTotalApproximate(boolean totalApproximate) { this.totalApproximate = totalApproximate; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Map<String, Map<String, Long>> getFacets() { return facets; }
+    public void setFacets(Map<String, Map<String, Long>> facets) { this.facets = facets; }
 }
\ No newline at end of file
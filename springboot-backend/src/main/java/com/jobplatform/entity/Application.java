@@ -1,5 +1,6 @@
 package com.jobplatform.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -8,7 +9,15 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications",
+       uniqueConstraints = @UniqueConstraint(name = "uk_applications_job_applicant", columnNames = {"job_id", "applicant_id"}),
+       indexes = {
+    @Index(name = "idx_applications_applicant_created_at", columnList = "applicant_id, created_at"),
+    @Index(name = "idx_applications_resume_filename", columnList = "resume_filename"),
+    @Index(name = "idx_applications_created_at_id", columnList = "created_at, application_id"),
+    @Index(name = "idx_applications_job_created_at_id", columnList = "job_id, created_at, application_id"),
+    @Index(name = "idx_applications_job_status_created_at_id", columnList = "job_id, status, created_at, application_id")
+})
 public class Application {
     @Id
     private String applicationId;
@@ -45,6 +54,10 @@ public class Application {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    // Client-supplied Idempotency-Key of the request that created this application
+    @JsonIgnore
+    private String idempotencyKey;
+
     // Constructors
     public Application() {}
 
@@ -91,4 +104,7 @@ public class Application {
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Position of a background indexer in (createdAt, id) order: everything up to
+// and including this key has been processed
+@Entity
+@Table(name = "indexing_watermarks")
+public class IndexingWatermark {
+    @Id
+    private String name;
+
+    private LocalDateTime lastCreatedAt;
+
+    private String lastId;
+
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public IndexingWatermark() {}
+
+    public IndexingWatermark(String name, LocalDateTime lastCreatedAt, String lastId) {
+        this.name = name;
+        this.lastCreatedAt = lastCreatedAt;
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public LocalDateTime getLastCreatedAt() { return lastCreatedAt; }
+    public void setLastCreatedAt(LocalDateTime lastCreatedAt) { this.lastCreatedAt = lastCreatedAt; }
+
+    public String getLastId() { return lastId; }
+    public void setLastId(String lastId) { this.lastId = lastId; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = @Index(name = "idx_jobs_created_at_job_id", columnList = "created_at, job_id"))
 public class Job {
     @Id
     private String jobId;
@@ -0,0 +1,47 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+
+// Number of applications to one job in each status, kept up to date by the
+// writes that change them so dashboards never have to count applications
+@Entity
+@Table(name = "job_application_stats")
+public class JobApplicationStats {
+    @Id
+    private String jobId;
+
+    @Column(nullable = false)
+    private long applied;
+
+    @Column(nullable = false)
+    private long approved;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private long waitlisted;
+
+    // Constructors
+    public JobApplicationStats() {}
+
+    public JobApplicationStats(String jobId) {
+        this.jobId = jobId;
+    }
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public long getApplied() { return applied; }
+    public void setApplied(long applied) { this.applied = applied; }
+
+    public long getApproved() { return approved; }
+    public void setApproved(long approved) { this.approved = approved; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public long getWaitlisted() { return waitlisted; }
+    public void setWaitlisted(long waitlisted) { this.waitlisted = waitlisted; }
+}
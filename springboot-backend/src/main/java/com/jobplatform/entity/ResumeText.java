@@ -0,0 +1,50 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "resume_texts", indexes = @Index(name = "idx_resume_texts_job_id", columnList = "job_id"))
+public class ResumeText {
+    @Id
+    private String applicationId;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    @Column(nullable = false)
+    private String status; // "indexed", "unsupported", "failed"
+
+    @Column(columnDefinition = "TEXT")
+    private String text;
+
+    private LocalDateTime extractedAt;
+
+    // Constructors
+    public ResumeText() {}
+
+    public ResumeText(String applicationId, String jobId, String status, String text) {
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.status = status;
+        this.text = text;
+        this.extractedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getApplicationId() { return applicationId; }
+    public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public LocalDateTime getExtractedAt() { return extractedAt; }
+    public void setExtractedAt(LocalDateTime extractedAt) { this.extractedAt = extractedAt; }
+}
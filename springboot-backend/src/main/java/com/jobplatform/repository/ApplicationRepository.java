@@ -1,9 +1,21 @@
 package com.jobplatform.repository;
 
+import com.jobplatform.dto.ApplicationOwnership;
+import com.jobplatform.dto.ApplicationSummary;
+import com.jobplatform.dto.ApplicationWithJobDetails;
 import com.jobplatform.entity.Application;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +24,106 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     Optional<Application> findByApplicationId(String applicationId);
     Optional<Application> findByJobIdAndApplicantId(String jobId, String applicantId);
     List<Application> findByApplicantIdOrderByCreatedAtDesc(String applicantId);
-    List<Application> findByJobIdOrderByCreatedAtDesc(String jobId);
+
+    // Applications joined with their job's title and company in one query
+    @Query("SELECT new com.jobplatform.dto.ApplicationWithJobDetails(a, j.title, j.company) " +
+           "FROM Application a LEFT JOIN Job j ON j.jobId = a.jobId " +
+           "WHERE a.applicantId = :applicantId ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationWithJobDetails> findWithJobDetailsByApplicantId(@Param("applicantId") String applicantId,
+                                                                    Pageable pageable);
+    List<Application> findByJobIdOrderByCreatedAtDesc(String jobId, Pageable pageable);
+
+    // Summary pages of a job's applications, newest first, keyed on (createdAt, applicationId)
+    @Query("SELECT new com.jobplatform.dto.ApplicationSummary(a.applicationId, a.fullName, a.status, a.createdAt, a.resumeFilename) " +
+           "FROM Application a WHERE a.jobId = :jobId " +
+           "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationSummary> findSummariesByJobId(@Param("jobId") String jobId, Pageable pageable);
+
+    @Query("SELECT new com.jobplatform.dto.ApplicationSummary(a.applicationId, a.fullName, a.status, a.createdAt, a.resumeFilename) " +
+           "FROM Application a WHERE a.jobId = :jobId " +
+           "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.applicationId < :applicationId)) " +
+           "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationSummary> findSummariesByJobIdAfter(@Param("jobId") String jobId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("applicationId") String applicationId,
+                                                       Pageable pageable);
+
+    @Query("SELECT new com.jobplatform.dto.ApplicationSummary(a.applicationId, a.fullName, a.status, a.createdAt, a.resumeFilename) " +
+           "FROM Application a WHERE a.jobId = :jobId AND a.status = :status " +
+           "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationSummary> findSummariesByJobIdAndStatus(@Param("jobId") String jobId,
+                                                           @Param("status") String status,
+                                                           Pageable pageable);
+
+    @Query("SELECT new com.jobplatform.dto.ApplicationSummary(a.applicationId, a.fullName, a.status, a.createdAt, a.resumeFilename) " +
+           "FROM Application a WHERE a.jobId = :jobId AND a.status = :status " +
+           "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.applicationId < :applicationId)) " +
+           "ORDER BY a.createdAt DESC, a.applicationId DESC")
+    List<ApplicationSummary> findSummariesByJobIdAndStatusAfter(@Param("jobId") String jobId,
+                                                                @Param("status") String status,
+                                                                @Param("createdAt") LocalDateTime createdAt,
+                                                                @Param("applicationId") String applicationId,
+                                                                Pageable pageable);
     void deleteByJobId(String jobId);
+
+    @Query("SELECT DISTINCT a.resumeFilename FROM Application a WHERE a.jobId = :jobId")
+    List<String> findResumeFilenamesByJobId(@Param("jobId") String jobId);
+
+    long countByResumeFilename(String resumeFilename);
+
+    // Plain INSERT with no read-before-write; a second application to the same job
+    // by the same applicant fails on uk_applications_job_applicant
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO applications (application_id, job_id, applicant_id, full_name, email, phone, " +
+                   "cover_letter, resume_filename, status, created_at, idempotency_key) " +
+                   "VALUES (:#{#a.applicationId}, :#{#a.jobId}, :#{#a.applicantId}, :#{#a.fullName}, :#{#a.email}, " +
+                   ":#{#a.phone}, :#{#a.coverLetter}, :#{#a.resumeFilename}, :#{#a.status}, :#{#a.createdAt}, " +
+                   ":#{#a.idempotencyKey})",
+           nativeQuery = true)
+    int insert(@Param("a") Application application);
+
+    // Job, status and owner of each application in one query, for ownership checks
+    @Query("SELECT new com.jobplatform.dto.ApplicationOwnership(a.applicationId, a.jobId, a.status, j.employerId) " +
+           "FROM Application a LEFT JOIN Job j ON j.jobId = a.jobId WHERE a.applicationId IN :applicationIds")
+    List<ApplicationOwnership> findOwnership(@Param("applicationIds") Collection<String> applicationIds);
+
+    @Query("SELECT new com.jobplatform.dto.ApplicationOwnership(a.applicationId, a.jobId, a.status, j.employerId) " +
+           "FROM Application a LEFT JOIN Job j ON j.jobId = a.jobId WHERE a.applicationId = :applicationId")
+    Optional<ApplicationOwnership> findOwnershipById(@Param("applicationId") String applicationId);
+
+    // Moves applications from one status to another. Rows whose status changed
+    // since it was read are left alone, so the returned count is exactly how many
+    // moved and the per-job counters can be adjusted by it.
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :toStatus WHERE a.applicationId IN :applicationIds AND a.status = :fromStatus")
+    int updateStatusFrom(@Param("applicationIds") Collection<String> applicationIds,
+                         @Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus);
+
+    // Sets one application's status if the employer owns its job and it is not already
+    // in that status. The UPDATE runs inside an H2 OLD TABLE delta query, so the same
+    // round trip returns the moved row's job and previous status (no row: nothing moved).
+    @Query(value = "SELECT job_id, status FROM OLD TABLE (UPDATE applications SET status = :toStatus " +
+                   "WHERE application_id = :applicationId AND status <> :toStatus " +
+                   "AND job_id IN (SELECT job_id FROM jobs WHERE employer_id = :employerId))",
+           nativeQuery = true)
+    List<Object[]> updateStatusIfOwned(@Param("applicationId") String applicationId,
+                                       @Param("employerId") String employerId,
+                                       @Param("toStatus") String toStatus);
+
+    // Keyset pages in (createdAt, applicationId) order for the resume indexer
+    @Query("SELECT a FROM Application a ORDER BY a.createdAt, a.applicationId")
+    List<Application> findIndexingBatch(Pageable pageable);
+
+    @Query("SELECT a FROM Application a WHERE a.createdAt > :createdAt " +
+           "OR (a.createdAt = :createdAt AND a.applicationId > :applicationId) " +
+           "ORDER BY a.createdAt, a.applicationId")
+    List<Application> findIndexingBatchAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("applicationId") String applicationId,
+                                             Pageable pageable);
     boolean existsByJobIdAndApplicantId(String jobId, String applicantId);
+
+    // Row-locks the application, so a concurrent job delete waits for the caller's commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Application> findForUpdateByApplicationId(String applicationId);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.IndexingWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IndexingWatermarkRepository extends JpaRepository<IndexingWatermark, String> {
+}
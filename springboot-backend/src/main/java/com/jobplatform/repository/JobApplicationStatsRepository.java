@@ -0,0 +1,65 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.JobApplicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, String> {
+
+    List<JobApplicationStats> findByJobIdIn(Collection<String> jobIds);
+
+    // Adds the given deltas to one job's counters; 0 rows means the job has no counters yet
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobApplicationStats s SET s.applied = s.applied + :applied, s.approved = s.approved + :approved, " +
+           "s.rejected = s.rejected + :rejected, s.waitlisted = s.waitlisted + :waitlisted WHERE s.jobId = :jobId")
+    int add(@Param("jobId") String jobId, @Param("applied") long applied, @Param("approved") long approved,
+            @Param("rejected") long rejected, @Param("waitlisted") long waitlisted);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_application_stats (job_id, applied, approved, rejected, waitlisted) " +
+                   "VALUES (:jobId, 0, 0, 0, 0)", nativeQuery = true)
+    int insertEmpty(@Param("jobId") String jobId);
+
+    // Counts applications for every job that has no counters row yet
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_application_stats (job_id, applied, approved, rejected, waitlisted) " +
+                   "SELECT j.job_id, " +
+                   "COUNT(CASE WHEN a.status = 'applied' THEN 1 END), " +
+                   "COUNT(CASE WHEN a.status = 'approved' THEN 1 END), " +
+                   "COUNT(CASE WHEN a.status = 'rejected' THEN 1 END), " +
+                   "COUNT(CASE WHEN a.status = 'waitlisted' THEN 1 END) " +
+                   "FROM jobs j LEFT JOIN applications a ON a.job_id = j.job_id " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM job_application_stats s WHERE s.job_id = j.job_id) " +
+                   "GROUP BY j.job_id", nativeQuery = true)
+    int backfillMissing();
+
+    // Counts one job's applications if it has no counters row yet
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_application_stats (job_id, applied, approved, rejected, waitlisted) " +
+                   "SELECT j.job_id, " +
+                   "COUNT(CASE WHEN a.status = 'applied' THEN 1 END), " +
+                   "COUNT(CASE WHEN a.status = 'approved' THEN 1 END), " +
+                   "COUNT(CASE WHEN a.status = 'rejected' THEN 1 END), " +
+                   "COUNT(CASE WHEN a.status = 'waitlisted' THEN 1 END) " +
+                   "FROM jobs j LEFT JOIN applications a ON a.job_id = j.job_id " +
+                   "WHERE j.job_id = :jobId " +
+                   "AND NOT EXISTS (SELECT 1 FROM job_application_stats s WHERE s.job_id = j.job_id) " +
+                   "GROUP BY j.job_id", nativeQuery = true)
+    int backfillJob(@Param("jobId") String jobId);
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationStats s WHERE s.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") String jobId);
+}
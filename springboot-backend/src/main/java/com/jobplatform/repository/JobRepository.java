@@ -3,17 +3,22 @@ package com.jobplatform.repository;
 import com.jobplatform.entity.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, String> {
     Optional<Job> findByJobId(String jobId);
+
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.skills WHERE j.jobId = :jobId")
+    Optional<Job> findWithSkillsByJobId(@Param("jobId") String jobId);
     List<Job> findByEmployerIdOrderByCreatedAtDesc(String employerId);
     
     @Query("SELECT j FROM Job j WHERE " +
@@ -22,6 +27,17 @@ public interface JobRepository extends JpaRepository<Job, String> {
            "LOWER(j.location) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "EXISTS (SELECT s FROM j.skills s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Job> findBySearchTerm(@Param("search") String search, Pageable pageable);
+
+    // Same as findBySearchTerm but without the COUNT query; totals come from JobCountCache
+    @Query("SELECT j FROM Job j WHERE " +
+           "LOWER(j.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(j.company) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(j.location) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "EXISTS (SELECT s FROM j.skills s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Slice<Job> findSliceBySearchTerm(@Param("search") String search, Pageable pageable);
+
+    @Query("SELECT j FROM Job j")
+    Slice<Job> findListingSlice(Pageable pageable);
     
     @Query("SELECT COUNT(j) FROM Job j WHERE " +
            "LOWER(j.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -29,4 +45,23 @@ public interface JobRepository extends JpaRepository<Job, String> {
            "LOWER(j.location) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "EXISTS (SELECT s FROM j.skills s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :search, '%')))")
     long countBySearchTerm(@Param("search") String search);
+
+    @Query("SELECT j FROM Job j WHERE " +
+           "j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId) " +
+           "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<Job> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("jobId") String jobId,
+                            Pageable pageable);
+
+    @Query("SELECT j FROM Job j WHERE " +
+           "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId)) AND (" +
+           "LOWER(j.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(j.company) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(j.location) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "EXISTS (SELECT s FROM j.skills s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :search, '%')))) " +
+           "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<Job> findPageAfterBySearchTerm(@Param("search") String search, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("jobId") String jobId, Pageable pageable);
+
+    @Query("SELECT DISTINCT j FROM Job j LEFT JOIN FETCH j.skills")
+    List<Job> findAllWithSkills();
 }
\ No newline at end of file
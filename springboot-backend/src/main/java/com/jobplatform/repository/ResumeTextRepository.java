@@ -0,0 +1,31 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.ResumeText;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, String> {
+
+    @Query("SELECT r.applicationId FROM ResumeText r WHERE r.applicationId IN :applicationIds")
+    Set<String> findExistingApplicationIds(@Param("applicationIds") Collection<String> applicationIds);
+
+    // Keyset pages of indexed text for rebuilding the in-memory index, skipping any
+    // row whose application no longer exists
+    @Query("SELECT r FROM ResumeText r JOIN Application a ON a.applicationId = r.applicationId " +
+           "WHERE r.status = :status AND r.applicationId > :after ORDER BY r.applicationId")
+    List<ResumeText> findLiveByStatusAfter(@Param("status") String status, @Param("after") String after,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ResumeText r WHERE r.jobId = :jobId")
+    void deleteByJobId(@Param("jobId") String jobId);
+}
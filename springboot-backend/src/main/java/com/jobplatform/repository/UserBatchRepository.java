@@ -0,0 +1,38 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Plain JDBC batch inserts for bulk provisioning, where going through the
+// persistence context one entity at a time would dominate the load time
+@Repository
+public class UserBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO users (user_id, email, password, role, full_name, company, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getUserId());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getRole());
+            ps.setString(5, user.getFullName());
+            ps.setString(6, user.getCompany());
+            ps.setTimestamp(7, now);
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobplatform.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Word index over the extracted resume text of each job's applications. Every
+// job has its own small index, so a search only touches the applicants of the
+// one job the employer is looking at, and dropping a job drops its index whole.
+@Component
+public class ApplicationResumeIndex {
+
+    private final Map<String, JobResumes> jobs = new ConcurrentHashMap<>();
+
+    public void index(String jobId, String applicationId, String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : Tokenizer.tokens(Tokenizer.normalize(text))) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        jobs.computeIfAbsent(jobId, id -> new JobResumes()).put(applicationId, frequencies);
+    }
+
+    public void removeJob(String jobId) {
+        jobs.remove(jobId);
+    }
+
+    public void clear() {
+        jobs.clear();
+    }
+
+    // Applications of the job whose resume contains every query word, the ones
+    // using those words most first
+    public List<String> search(String jobId, String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokens(Tokenizer.normalize(query)));
+        JobResumes resumes = jobs.get(jobId);
+        if (resumes == null || terms.isEmpty()) {
+            return List.of();
+        }
+        return resumes.search(terms, limit);
+    }
+
+    public int size() {
+        int size = 0;
+        for (JobResumes resumes : jobs.values()) {
+            size += resumes.size();
+        }
+        return size;
+    }
+
+    private static final class JobResumes {
+
+        // term -> applicationId -> occurrences
+        private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+        private final Map<String, Set<String>> termsByApplication = new HashMap<>();
+
+        synchronized void put(String applicationId, Map<String, Integer> frequencies) {
+            Set<String> previous = termsByApplication.remove(applicationId);
+            if (previous != null) {
+                for (String term : previous) {
+                    Map<String, Integer> applications = postings.get(term);
+                    applications.remove(applicationId);
+                    if (applications.isEmpty()) postings.remove(term);
+                }
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(applicationId, entry.getValue());
+            }
+            termsByApplication.put(applicationId, frequencies.keySet());
+        }
+
+        synchronized List<String> search(Set<String> terms, int limit) {
+            // Start from the rarest term so the candidate set is as small as possible
+            List<Map<String, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<String, Integer> applications = postings.get(term);
+                if (applications == null) {
+                    return List.of();
+                }
+                lists.add(applications);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Map<String, Double> scores = new HashMap<>();
+            candidates:
+            for (Map.Entry<String, Integer> candidate : lists.get(0).entrySet()) {
+                double score = Math.log1p(candidate.getValue());
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer frequency = lists.get(i).get(candidate.getKey());
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += Math.log1p(frequency);
+                }
+                scores.put(candidate.getKey(), score);
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        synchronized int size() {
+            return termsByApplication.size();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Facet counts over skills, location and company. Each facet value keeps a
+// bitmap of the ordinals of the jobs carrying it; counting a result set either
+// intersects those bitmaps with it or, for small result sets, walks the
+// matching jobs directly, whichever touches less memory.
+@Component
+public class JobFacetIndex implements JobIndex {
+
+    public static final String SKILLS = "skills";
+    public static final String LOCATION = "location";
+    public static final String COMPANY = "company";
+
+    private static final List<String> DIMENSIONS = List.of(SKILLS, LOCATION, COMPANY);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed by ordinal; removed jobs leave a null slot
+    private final List<Map<String, Set<String>>> documents = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<String, Map<String, BitSet>> bitmaps = new HashMap<>();
+    private final Map<String, Map<String, Integer>> cardinalities = new HashMap<>();
+
+    public JobFacetIndex() {
+        for (String dimension : DIMENSIONS) {
+            bitmaps.put(dimension, new HashMap<>());
+            cardinalities.put(dimension, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void rebuild(List<Job> jobs) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            ordinals.clear();
+            for (String dimension : DIMENSIONS) {
+                bitmaps.get(dimension).clear();
+                cardinalities.get(dimension).clear();
+            }
+            for (Job job : jobs) {
+                int ordinal = documents.size();
+                Map<String, Set<String>> values = valuesOf(job);
+                documents.add(values);
+                ordinals.put(job.getJobId(), ordinal);
+                set(values, ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        Map<String, Set<String>> values = valuesOf(job);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(job.getJobId());
+            if (ordinal == null) {
+                ordinal = documents.size();
+                documents.add(values);
+                ordinals.put(job.getJobId(), ordinal);
+            } else {
+                clear(documents.get(ordinal), ordinal);
+                documents.set(ordinal, values);
+            }
+            set(values, ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            clear(documents.get(ordinal), ordinal);
+            documents.set(ordinal, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Top values per dimension, most frequent first. A null jobIds means the whole catalog.
+    public Map<String, Map<String, Long>> counts(Collection<String> jobIds, int topN) {
+        lock.readLock().lock();
+        try {
+            Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+            if (jobIds == null) {
+                for (String dimension : DIMENSIONS) {
+                    Map<String, Long> counts = new HashMap<>();
+                    cardinalities.get(dimension).forEach((value, count) -> counts.put(value, (long) count));
+                    result.put(dimension, top(counts, topN));
+                }
+                return result;
+            }
+
+            BitSet matches = new BitSet(documents.size());
+            for (String jobId : jobIds) {
+                Integer ordinal = ordinals.get(jobId);
+                if (ordinal != null) matches.set(ordinal);
+            }
+            for (String dimension : DIMENSIONS) {
+                result.put(dimension, top(count(dimension, matches, jobIds.size()), topN));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Long> count(String dimension, BitSet matches, int matchCount) {
+        Map<String, BitSet> valueBitmaps = bitmaps.get(dimension);
+        Map<String, Long> counts = new HashMap<>();
+        long intersectCost = (long) valueBitmaps.size() * (documents.size() / 64 + 1);
+        if (intersectCost < matchCount) {
+            valueBitmaps.forEach((value, bitmap) -> {
+                BitSet intersection = (BitSet) bitmap.clone();
+                intersection.and(matches);
+                int cardinality = intersection.cardinality();
+                if (cardinality > 0) counts.put(value, (long) cardinality);
+            });
+        } else {
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                for (String value : documents.get(ordinal).get(dimension)) {
+                    counts.merge(value, 1L, Long::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> top(Map<String, Long> counts, int topN) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(topN)
+            .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private void set(Map<String, Set<String>> values, int ordinal) {
+        for (String dimension : DIMENSIONS) {
+            for (String value : values.get(dimension)) {
+                bitmaps.get(dimension).computeIfAbsent(value, v -> new BitSet()).set(ordinal);
+                cardinalities.get(dimension).merge(value, 1, Integer::sum);
+            }
+        }
+    }
+
+    private void clear(Map<String, Set<String>> values, int ordinal) {
+        for (String dimension : DIMENSIONS) {
+            for (String value : values.get(dimension)) {
+                BitSet bitmap = bitmaps.get(dimension).get(value);
+                bitmap.clear(ordinal);
+                if (bitmap.isEmpty()) {
+                    bitmaps.get(dimension).remove(value);
+                    cardinalities.get(dimension).remove(value);
+                } else {
+                    cardinalities.get(dimension).merge(value, -1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Set<String>> valuesOf(Job job) {
+        Map<String, Set<String>> values = new HashMap<>();
+        Set<String> skills = new LinkedHashSet<>();
+        if (job.getSkills() != null) {
+            for (String skill : job.getSkills()) {
+                if (skill != null && !skill.isBlank()) skills.add(skill.trim());
+            }
+        }
+        values.put(SKILLS, skills);
+        values.put(LOCATION, valueSet(job.getLocation()));
+        values.put(COMPANY, valueSet(job.getCompany()));
+        return values;
+    }
+
+    private static Set<String> valueSet(String value) {
+        return value == null || value.isBlank() ? Set.of() : Set.of(value.trim());
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Job;
+
+import java.util.List;
+
+// In-memory structure derived from the jobs table. Built once at startup by
+// JobIndexInitializer and kept current by JobService on every job write.
+public interface JobIndex {
+    void rebuild(List<Job> jobs);
+    void index(Job job);
+    void remove(String jobId);
+}
@@ -0,0 +1,36 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Job;
+import com.jobplatform.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Runs after all singletons exist but before the web server accepts requests,
+// so no job write can race with the initial build.
+@Component
+public class JobIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobIndexInitializer.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private List<JobIndex> jobIndexes;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        List<Job> jobs = jobRepository.findAllWithSkills();
+        for (JobIndex jobIndex : jobIndexes) {
+            jobIndex.rebuild(jobs);
+        }
+        logger.info("Built {} job indexes over {} jobs in {} ms",
+                jobIndexes.size(), jobs.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,267 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Word index for relevance-ranked search. Jobs are scored with BM25 per field
+// (title, skills, description, requirements), weighted by field boost. Field
+// lengths are kept per document and in running totals so averages never need
+// a pass over the catalog, and only the top offset + limit scores are kept in
+// a bounded heap instead of sorting every match.
+@Component
+public class JobRankIndex implements JobIndex {
+
+    private static final int TITLE = 0;
+    private static final int SKILLS = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int REQUIREMENTS = 3;
+    private static final int FIELDS = 4;
+
+    private static final double[] BOOSTS = {3.0, 2.0, 1.0, 1.0};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed by ordinal; ordinals follow insertion so ties rank newer jobs first.
+    // Removed jobs leave a null slot.
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<String, TermPostings> postings = new HashMap<>();
+    private final long[] totalLengths = new long[FIELDS];
+    private int liveDocuments;
+
+    @Override
+    public void rebuild(List<Job> jobs) {
+        List<Job> sorted = new ArrayList<>(jobs);
+        sorted.sort(Comparator.comparing(Job::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Job::getJobId));
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            ordinals.clear();
+            postings.clear();
+            Arrays.fill(totalLengths, 0);
+            liveDocuments = 0;
+            for (Job job : sorted) {
+                int ordinal = documents.size();
+                documents.add(null);
+                ordinals.put(job.getJobId(), ordinal);
+                put(ordinal, Document.of(job));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        Document document = Document.of(job);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(job.getJobId());
+            if (ordinal == null) {
+                ordinal = documents.size();
+                documents.add(null);
+                ordinals.put(job.getJobId(), ordinal);
+            } else {
+                take(ordinal);
+            }
+            put(ordinal, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(jobId);
+            if (ordinal != null) {
+                take(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // One page of jobs containing any query word, best score first
+    public JobSearchIndex.Hits rank(String query, int offset, int limit, boolean collectMatches) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokens(Tokenizer.normalize(query)));
+        lock.readLock().lock();
+        try {
+            if (liveDocuments == 0 || terms.isEmpty()) {
+                return new JobSearchIndex.Hits(List.of(), 0, false, collectMatches ? List.of() : null);
+            }
+            double[] averageLengths = new double[FIELDS];
+            for (int field = 0; field < FIELDS; field++) {
+                averageLengths[field] = Math.max(1.0, (double) totalLengths[field] / liveDocuments);
+            }
+
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                TermPostings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                int df = termPostings.size();
+                double idf = Math.log(1 + (liveDocuments - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < df; i++) {
+                    int ordinal = termPostings.ordinal(i);
+                    int[] lengths = documents.get(ordinal).lengths();
+                    double score = 0;
+                    for (int field = 0; field < FIELDS; field++) {
+                        int tf = termPostings.frequency(i, field);
+                        if (tf > 0) {
+                            double norm = 1 - B + B * lengths[field] / averageLengths[field];
+                            score += BOOSTS[field] * tf * (K1 + 1) / (tf + K1 * norm);
+                        }
+                    }
+                    scores.merge(ordinal, idf * score, Double::sum);
+                }
+            }
+
+            // Min-heap holding the best offset + limit; its head is the weakest kept score
+            Comparator<Map.Entry<Integer, Double>> weakestFirst = Map.Entry.<Integer, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+            long keep = (long) offset + limit;
+            PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(weakestFirst);
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                if (heap.size() < keep) {
+                    heap.add(entry);
+                } else if (keep > 0 && weakestFirst.compare(entry, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(entry);
+                }
+            }
+            List<Map.Entry<Integer, Double>> best = new ArrayList<>(heap);
+            best.sort(weakestFirst.reversed());
+
+            List<String> jobIds = new ArrayList<>();
+            for (int i = offset; i < best.size(); i++) {
+                jobIds.add(documents.get(best.get(i).getKey()).jobId());
+            }
+            List<String> matchedJobIds = null;
+            if (collectMatches) {
+                matchedJobIds = new ArrayList<>(scores.size());
+                for (Integer ordinal : scores.keySet()) {
+                    matchedJobIds.add(documents.get(ordinal).jobId());
+                }
+            }
+            return new JobSearchIndex.Hits(jobIds, scores.size(), scores.size() > keep, matchedJobIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(int ordinal, Document document) {
+        documents.set(ordinal, document);
+        for (Map.Entry<String, int[]> entry : document.frequencies().entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new TermPostings()).add(ordinal, entry.getValue());
+        }
+        for (int field = 0; field < FIELDS; field++) {
+            totalLengths[field] += document.lengths()[field];
+        }
+        liveDocuments++;
+    }
+
+    private void take(int ordinal) {
+        Document document = documents.get(ordinal);
+        for (String term : document.frequencies().keySet()) {
+            TermPostings termPostings = postings.get(term);
+            termPostings.remove(ordinal);
+            if (termPostings.size() == 0) postings.remove(term);
+        }
+        for (int field = 0; field < FIELDS; field++) {
+            totalLengths[field] -= document.lengths()[field];
+        }
+        liveDocuments--;
+        documents.set(ordinal, null);
+    }
+
+    private record Document(String jobId, int[] lengths, Map<String, int[]> frequencies) {
+
+        static Document of(Job job) {
+            int[] lengths = new int[FIELDS];
+            Map<String, int[]> frequencies = new HashMap<>();
+            addField(TITLE, job.getTitle(), lengths, frequencies);
+            if (job.getSkills() != null) {
+                for (String skill : job.getSkills()) {
+                    addField(SKILLS, skill, lengths, frequencies);
+                }
+            }
+            addField(DESCRIPTION, job.getDescription(), lengths, frequencies);
+            addField(REQUIREMENTS, job.getRequirements(), lengths, frequencies);
+            return new Document(job.getJobId(), lengths, frequencies);
+        }
+
+        private static void addField(int field, String text, int[] lengths, Map<String, int[]> frequencies) {
+            for (String token : Tokenizer.tokens(Tokenizer.normalize(text))) {
+                frequencies.computeIfAbsent(token, t -> new int[FIELDS])[field]++;
+                lengths[field]++;
+            }
+        }
+    }
+
+    // Sorted ordinals of the jobs containing one term, with that term's
+    // frequency in each field stored alongside
+    private static final class TermPostings {
+
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4 * FIELDS];
+        private int size;
+
+        void add(int ordinal, int[] fieldFrequencies) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos >= 0) {
+                System.arraycopy(fieldFrequencies, 0, frequencies, pos * FIELDS, FIELDS);
+                return;
+            }
+            pos = -pos - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2 * FIELDS);
+            }
+            System.arraycopy(ordinals, pos, ordinals, pos + 1, size - pos);
+            System.arraycopy(frequencies, pos * FIELDS, frequencies, (pos + 1) * FIELDS, (size - pos) * FIELDS);
+            ordinals[pos] = ordinal;
+            System.arraycopy(fieldFrequencies, 0, frequencies, pos * FIELDS, FIELDS);
+            size++;
+        }
+
+        void remove(int ordinal) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+            System.arraycopy(frequencies, (pos + 1) * FIELDS, frequencies, pos * FIELDS, (size - pos - 1) * FIELDS);
+            size--;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int ordinal(int index) {
+            return ordinals[index];
+        }
+
+        int frequency(int index, int field) {
+            return frequencies[index * FIELDS + field];
+        }
+    }
+}
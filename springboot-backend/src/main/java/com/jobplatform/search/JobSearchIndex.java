@@ -0,0 +1,302 @@
+package com.jobplatform.search;
+
+import com.jobplatform.dto.JobCursor;
+import com.jobplatform.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Trigram index answering the same question as JobRepository.findBySearchTerm:
+// does the search string occur (case-insensitively) anywhere in the title,
+// company, location or any skill. Postings narrow the candidates; every
+// candidate is then verified against the stored field values so results match
+// the LIKE query exactly, including infix matches such as "script" in "JavaScript".
+@Component
+public class JobSearchIndex implements JobIndex {
+
+    // Removed slots are compacted away once they are this many and a quarter of all
+    private static final int COMPACT_MIN_REMOVED = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed by ordinal; ordinals follow (createdAt, jobId) so that walking them
+    // backwards yields the listing order. Removed jobs leave a null slot.
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    // One- and two-character fragments -> the indexed trigrams containing them, so a
+    // short needle finds its grams without walking the whole vocabulary
+    private final Map<String, Set<String>> gramsByFragment = new HashMap<>();
+    private int removed;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // LIKE treats %, _ and the escape character as syntax, so those searches stay on the database
+    public boolean supports(String search) {
+        return ready && search.indexOf('%') < 0 && search.indexOf('_') < 0 && search.indexOf('\\') < 0;
+    }
+
+    @Override
+    public void rebuild(List<Job> jobs) {
+        List<Job> sorted = new ArrayList<>(jobs);
+        sorted.sort(Comparator.comparing(Job::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Job::getJobId));
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (Job job : sorted) {
+                add(Document.of(job));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        Document document = Document.of(job);
+        Set<String> grams = document.grams();
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(job.getJobId());
+            if (ordinal == null) {
+                add(document);
+                return;
+            }
+            Set<String> previousGrams = documents.get(ordinal).grams();
+            for (String gram : previousGrams) {
+                if (!grams.contains(gram)) unpost(gram, ordinal);
+            }
+            for (String gram : grams) {
+                if (!previousGrams.contains(gram)) post(gram, ordinal);
+            }
+            documents.set(ordinal, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            for (String gram : documents.get(ordinal).grams()) {
+                unpost(gram, ordinal);
+            }
+            documents.set(ordinal, null);
+            removed++;
+            if (removed >= COMPACT_MIN_REMOVED && removed * 4L >= documents.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Returns the jobIds of one page of matches, newest first, plus the total match count.
+    // With a cursor the page starts at the first match after it rather than at offset.
+    // collectMatches additionally returns every matching jobId, e.g. for facet counts.
+    public Hits search(String search, int offset, int limit, JobCursor after, boolean collectMatches) {
+        String needle = Tokenizer.normalize(search);
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(needle);
+            List<String> jobIds = new ArrayList<>();
+            List<String> matchedJobIds = collectMatches ? new ArrayList<>() : null;
+            long total = 0;
+            long position = 0;
+            for (int ordinal = candidates.previousSetBit(documents.size() - 1);
+                 ordinal >= 0;
+                 ordinal = candidates.previousSetBit(ordinal - 1)) {
+                Document document = documents.get(ordinal);
+                if (document == null || !document.matches(needle)) {
+                    continue;
+                }
+                total++;
+                if (collectMatches) {
+                    matchedJobIds.add(document.jobId());
+                }
+                if (after != null && !document.follows(after)) {
+                    continue;
+                }
+                if (position >= offset && jobIds.size() < limit) {
+                    jobIds.add(document.jobId());
+                }
+                position++;
+            }
+            return new Hits(jobIds, total, position > (long) offset + limit, matchedJobIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every field containing a needle of three or more characters contains each of
+    // its trigrams, so intersecting their postings is a safe superset. Shorter
+    // needles sit inside at least one padded trigram of any field containing them.
+    private BitSet candidates(String needle) {
+        BitSet result = new BitSet(documents.size());
+        if (needle.length() < Tokenizer.GRAM) {
+            for (String gram : gramsByFragment.getOrDefault(needle, Set.of())) {
+                postings.get(gram).addTo(result);
+            }
+            return result;
+        }
+
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : Tokenizer.trigrams(needle, false)) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return result;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        PostingList smallest = lists.get(0);
+        for (int i = 0; i < smallest.size(); i++) {
+            int ordinal = smallest.get(i);
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(ordinal);
+            }
+            if (inAll) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    private void add(Document document) {
+        int ordinal = documents.size();
+        documents.add(document);
+        ordinals.put(document.jobId(), ordinal);
+        for (String gram : document.grams()) {
+            post(gram, ordinal);
+        }
+    }
+
+    private void post(String gram, int ordinal) {
+        PostingList list = postings.get(gram);
+        if (list == null) {
+            list = new PostingList();
+            postings.put(gram, list);
+            for (String fragment : fragments(gram)) {
+                gramsByFragment.computeIfAbsent(fragment, f -> new HashSet<>()).add(gram);
+            }
+        }
+        list.add(ordinal);
+    }
+
+    private void unpost(String gram, int ordinal) {
+        PostingList list = postings.get(gram);
+        if (list != null) {
+            list.remove(ordinal);
+            if (list.isEmpty()) {
+                postings.remove(gram);
+                for (String fragment : fragments(gram)) {
+                    Set<String> grams = gramsByFragment.get(fragment);
+                    grams.remove(gram);
+                    if (grams.isEmpty()) gramsByFragment.remove(fragment);
+                }
+            }
+        }
+    }
+
+    private static Set<String> fragments(String gram) {
+        Set<String> fragments = new HashSet<>();
+        for (int length = 1; length < Tokenizer.GRAM; length++) {
+            for (int i = 0; i + length <= gram.length(); i++) {
+                fragments.add(gram.substring(i, i + length));
+            }
+        }
+        return fragments;
+    }
+
+    private void clear() {
+        documents.clear();
+        ordinals.clear();
+        postings.clear();
+        gramsByFragment.clear();
+        removed = 0;
+    }
+
+    // Renumbers the live documents densely, keeping their order, so removed jobs
+    // stop costing a slot in documents and in every candidate BitSet
+    private void compact() {
+        List<Document> live = new ArrayList<>(documents.size() - removed);
+        for (Document document : documents) {
+            if (document != null) live.add(document);
+        }
+        clear();
+        for (Document document : live) {
+            add(document);
+        }
+    }
+
+    int slots() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Hits(List<String> jobIds, long total, boolean hasMore, List<String> matchedJobIds) {}
+
+    // Only the normalized fields are kept; a job's trigrams are recomputed from them
+    // when it is updated or removed rather than held for every job in the catalog
+    private record Document(String jobId, LocalDateTime createdAt, List<String> fields) {
+
+        static Document of(Job job) {
+            List<String> fields = new ArrayList<>();
+            fields.add(Tokenizer.normalize(job.getTitle()));
+            fields.add(Tokenizer.normalize(job.getCompany()));
+            fields.add(Tokenizer.normalize(job.getLocation()));
+            if (job.getSkills() != null) {
+                for (String skill : job.getSkills()) {
+                    fields.add(Tokenizer.normalize(skill));
+                }
+            }
+            return new Document(job.getJobId(), job.getCreatedAt(), List.copyOf(fields));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String field : fields) {
+                grams.addAll(Tokenizer.trigrams(field, true));
+            }
+            return grams;
+        }
+
+        boolean matches(String needle) {
+            for (String field : fields) {
+                if (field.contains(needle)) return true;
+            }
+            return false;
+        }
+
+        boolean follows(JobCursor cursor) {
+            return createdAt != null && cursor.precedes(createdAt, jobId);
+        }
+    }
+}
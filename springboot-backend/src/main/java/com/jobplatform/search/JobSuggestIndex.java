@@ -0,0 +1,185 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Prefix trie over job titles, companies and skills for the typeahead box.
+// Each phrase is weighted by the number of jobs carrying it. Every node keeps
+// its top completions, which are exactly the best of its own phrase and its
+// children's tops. A write recomputes them bottom-up along the phrase's path
+// only, pruning nodes left with no phrase and no children, so no read ever
+// walks a subtree.
+@Component
+public class JobSuggestIndex implements JobIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> ORDER = Comparator.comparingInt(Suggestion::count)
+        .thenComparing(Suggestion::text, Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root = new Node();
+    private final Map<String, Set<String>> phrasesByJob = new HashMap<>();
+
+    @Override
+    public void rebuild(List<Job> jobs) {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            phrasesByJob.clear();
+            for (Job job : jobs) {
+                Set<String> phrases = phrasesOf(job);
+                phrasesByJob.put(job.getJobId(), phrases);
+                phrases.forEach(phrase -> count(phrase, 1));
+            }
+            computeTops(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Job job) {
+        Set<String> phrases = phrasesOf(job);
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = phrasesByJob.put(job.getJobId(), phrases);
+            if (previous != null) {
+                for (String phrase : previous) {
+                    if (!phrases.contains(phrase)) adjust(phrase, -1);
+                }
+            }
+            for (String phrase : phrases) {
+                if (previous == null || !previous.contains(phrase)) adjust(phrase, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = phrasesByJob.remove(jobId);
+            if (previous != null) {
+                previous.forEach(phrase -> adjust(phrase, -1));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Most frequent phrases starting with prefix, case-insensitively
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = Tokenizer.normalize(prefix.trim());
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.subList(0, Math.max(0, Math.min(limit, node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Changes one phrase's weight and refreshes the tops on its path, deepest first
+    private void adjust(String phrase, int delta) {
+        String key = Tokenizer.normalize(phrase);
+        Node[] path = count(phrase, delta);
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node node = path[depth];
+            if (depth > 0 && node.count <= 0 && node.children.isEmpty()) {
+                path[depth - 1].children.remove(key.charAt(depth - 1));
+            } else {
+                node.top = topOf(node);
+            }
+        }
+    }
+
+    // Changes one phrase's weight without touching any tops; returns the nodes from the root down
+    private Node[] count(String phrase, int delta) {
+        String key = Tokenizer.normalize(phrase);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        Node node = path[key.length()];
+        node.count += delta;
+        if (delta > 0) {
+            node.display = phrase;
+        }
+        return path;
+    }
+
+    private static void computeTops(Node node) {
+        for (Node child : node.children.values()) {
+            computeTops(child);
+        }
+        node.top = topOf(node);
+    }
+
+    // The best of the node's own phrase and its children's tops; any phrase in the
+    // subtree that belongs in this top is already in the top of its child
+    private static List<Suggestion> topOf(Node node) {
+        if (node.count <= 0 && node.children.size() == 1) {
+            // Inner nodes of a single-child chain share their child's list
+            return node.children.values().iterator().next().top;
+        }
+        List<Suggestion> candidates = new ArrayList<>();
+        if (node.count > 0) {
+            candidates.add(new Suggestion(node.display, node.count));
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(ORDER.reversed());
+        return List.copyOf(candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())));
+    }
+
+    // A job counts once per phrase, however many of its fields spell it
+    private static Set<String> phrasesOf(Job job) {
+        Map<String, String> phrases = new LinkedHashMap<>();
+        addPhrase(phrases, job.getTitle());
+        addPhrase(phrases, job.getCompany());
+        if (job.getSkills() != null) {
+            job.getSkills().forEach(skill -> addPhrase(phrases, skill));
+        }
+        return new LinkedHashSet<>(phrases.values());
+    }
+
+    private static void addPhrase(Map<String, String> phrases, String phrase) {
+        if (phrase != null && !phrase.isBlank()) {
+            phrases.putIfAbsent(Tokenizer.normalize(phrase.trim()), phrase.trim());
+        }
+    }
+
+    public record Suggestion(String text, int count) {}
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        int count;
+        String display;
+        List<Suggestion> top = List.of();
+    }
+}
@@ -0,0 +1,305 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Application;
+import com.jobplatform.entity.IndexingWatermark;
+import com.jobplatform.entity.ResumeText;
+import com.jobplatform.repository.ApplicationRepository;
+import com.jobplatform.repository.IndexingWatermarkRepository;
+import com.jobplatform.repository.ResumeTextRepository;
+import com.jobplatform.storage.UploadPathResolver;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Extracts resume text off the request path and feeds ApplicationResumeIndex.
+//
+// A single sweeper thread walks applications in (createdAt, applicationId)
+// order from a persisted watermark and hands each one without extracted text to
+// a bounded worker pool. When the pool's queue is full the sweeper does the
+// work itself, which is the backpressure: the sweep slows down, request threads
+// never wait. Each application gets a few attempts with exponential backoff;
+// one that still fails is recorded as failed so it does not block the
+// watermark. createApplication only wakes the sweeper.
+//
+// The watermark trails the newest applications by a settle window, since an
+// application saved with an earlier createdAt can commit after a later one has
+// been swept. Anything inside the window is swept again next time and skipped
+// because its text is already stored. On startup the index is rebuilt from the
+// stored text, and only applications past the watermark are read from disk.
+@Component
+public class ResumeIndexingPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIndexingPipeline.class);
+
+    private static final String WATERMARK = "resume-text";
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private IndexingWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private ResumeTextExtractor extractor;
+
+    @Autowired
+    private ApplicationResumeIndex index;
+
+    @Autowired
+    private UploadPathResolver uploadPathResolver;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${resumes.indexing.threads:2}")
+    private int threads;
+
+    @Value("${resumes.indexing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${resumes.indexing.batch-size:100}")
+    private int batchSize;
+
+    @Value("${resumes.indexing.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${resumes.indexing.retry-backoff-millis:500}")
+    private long retryBackoffMillis;
+
+    @Value("${resumes.indexing.settle-seconds:30}")
+    private long settleSeconds;
+
+    @Value("${resumes.indexing.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    private ThreadPoolExecutor workers;
+    private Thread sweeper;
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean stopped;
+
+    private final LongAdder indexed = new LongAdder();
+    private final LongAdder unsupported = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private volatile LocalDateTime watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        rebuildIndex();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "resume-indexing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        sweeper = new Thread(this::sweepLoop, "resume-indexing-sweeper");
+        sweeper.setDaemon(true);
+        sweeper.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopped = true;
+        if (sweeper != null) {
+            sweeper.interrupt();
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    // Asks for a sweep soon; never blocks
+    public void wake() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(workers == null ? 0 : workers.getActiveCount(), workers == null ? 0 : workers.getQueue().size(),
+                indexed.sum(), unsupported.sum(), failed.sum(), retries.sum(), index.size(), watermark);
+    }
+
+    private void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        index.clear();
+        String after = "";
+        List<ResumeText> page;
+        do {
+            page = resumeTextRepository.findLiveByStatusAfter("indexed", after, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (ResumeText resumeText : page) {
+                index.index(resumeText.getJobId(), resumeText.getApplicationId(), resumeText.getText());
+                after = resumeText.getApplicationId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        logger.info("Rebuilt resume index over {} applications in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    private void sweepLoop() {
+        while (!stopped) {
+            try {
+                sweep();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Resume indexing sweep failed", e);
+            }
+            try {
+                wakeups.tryAcquire(sweepIntervalSeconds, TimeUnit.SECONDS);
+                wakeups.drainPermits();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void sweep() throws InterruptedException {
+        IndexingWatermark saved = watermarkRepository.findById(WATERMARK).orElse(null);
+        LocalDateTime afterCreatedAt = saved == null ? null : saved.getLastCreatedAt();
+        String afterId = saved == null ? null : saved.getLastId();
+        watermark = afterCreatedAt;
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(settleSeconds);
+        boolean advancing = true;
+
+        while (!stopped) {
+            PageRequest page = PageRequest.of(0, batchSize);
+            List<Application> batch = afterCreatedAt == null
+                    ? applicationRepository.findIndexingBatch(page)
+                    : applicationRepository.findIndexingBatchAfter(afterCreatedAt, afterId, page);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Set<String> done = resumeTextRepository.findExistingApplicationIds(
+                    batch.stream().map(Application::getApplicationId).toList());
+            List<Future<?>> pending = new ArrayList<>(batch.size());
+            for (Application application : batch) {
+                pending.add(done.contains(application.getApplicationId())
+                        ? null
+                        : workers.submit(() -> process(application)));
+            }
+            boolean[] unfinished = new boolean[batch.size()];
+            for (int i = 0; i < pending.size(); i++) {
+                if (pending.get(i) == null) {
+                    continue;
+                }
+                try {
+                    pending.get(i).get();
+                } catch (ExecutionException e) {
+                    // Could not even record the outcome; leave it for the next sweep
+                    unfinished[i] = true;
+                    logger.error("Resume indexing task failed", e.getCause());
+                }
+            }
+
+            // The watermark may only pass a settled, finished prefix of this sweep
+            Application lastSettled = null;
+            for (int i = 0; i < batch.size() && advancing; i++) {
+                Application application = batch.get(i);
+                if (unfinished[i] || !application.getCreatedAt().isBefore(settledBefore)) {
+                    advancing = false;
+                } else {
+                    lastSettled = application;
+                }
+            }
+            if (lastSettled != null) {
+                watermarkRepository.save(new IndexingWatermark(WATERMARK, lastSettled.getCreatedAt(),
+                                                               lastSettled.getApplicationId()));
+                watermark = lastSettled.getCreatedAt();
+            }
+
+            Application last = batch.get(batch.size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getApplicationId();
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void process(Application application) {
+        String filename = application.getResumeFilename();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String text = UploadPathResolver.isValidName(filename)
+                        ? extractor.extract(uploadPathResolver.locate(filename), filename)
+                        : null;
+                if (text == null) {
+                    if (record(application, "unsupported", null)) {
+                        unsupported.increment();
+                    }
+                } else if (record(application, "indexed", text)) {
+                    indexed.increment();
+                }
+                return;
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("Giving up on resume of application {} after {} attempts",
+                            application.getApplicationId(), attempt, e);
+                    if (record(application, "failed", null)) {
+                        failed.increment();
+                    }
+                    return;
+                }
+                retries.increment();
+                try {
+                    Thread.sleep(retryBackoffMillis << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Stores the outcome, and indexes the text, only while the application still
+    // exists. Its row is locked until commit, so a job delete either sees the
+    // stored text and removes it, or has already run and nothing is written; the
+    // in-memory index is fed before the lock is released, so removeJob, which
+    // runs after the delete commits, always comes after it.
+    private boolean record(Application application, String status, String text) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+            if (applicationRepository.findForUpdateByApplicationId(application.getApplicationId()).isEmpty()) {
+                return false;
+            }
+            resumeTextRepository.save(new ResumeText(application.getApplicationId(), application.getJobId(), status, text));
+            if (text != null) {
+                index.index(application.getJobId(), application.getApplicationId(), text);
+            }
+            return true;
+        }));
+    }
+
+    public record Stats(int active, int queued, long indexed, long unsupported, long failed, long retries,
+                        int indexedApplications, LocalDateTime watermark) {}
+}
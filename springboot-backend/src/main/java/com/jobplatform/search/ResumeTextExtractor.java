@@ -0,0 +1,202 @@
+package com.jobplatform.search;
+
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+// Plain text of an uploaded resume, using only the JDK. TXT is read as UTF-8,
+// DOCX is unzipped and stripped of its WordprocessingML markup, and PDF text
+// is taken from the string operands of Tj/TJ inside BT...ET blocks of each
+// (optionally Flate-compressed) content stream. That covers PDFs written with
+// simple fonts; text drawn with CID fonts or as images comes out empty.
+@Component
+public class ResumeTextExtractor {
+
+    // Longer resumes are truncated; nobody searches past page twenty
+    static final int MAX_CHARS = 200_000;
+
+    // Most bytes decompressed from one upload, markup included. A small zip or
+    // Flate stream can expand to gigabytes, so anything past this is dropped.
+    static final int MAX_INFLATED_BYTES = 16 * MAX_CHARS;
+
+    // Returns null for formats it cannot read
+    public String extract(Path file, String filename) throws IOException {
+        String text = switch (extension(filename)) {
+            case "txt" -> new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            case "docx" -> docx(file);
+            case "pdf" -> pdf(Files.readAllBytes(file));
+            default -> null;
+        };
+        if (text == null) {
+            return null;
+        }
+        text = text.replaceAll("[\\s\\u0000]+", " ").trim();
+        return text.length() > MAX_CHARS ? text.substring(0, MAX_CHARS) : text;
+    }
+
+    private static String extension(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String docx(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry("word/document.xml");
+            if (entry == null) {
+                throw new IOException("Not a DOCX document");
+            }
+            if (entry.getSize() > MAX_INFLATED_BYTES) {
+                throw new IOException("DOCX document too large");
+            }
+            String xml;
+            try (InputStream in = zip.getInputStream(entry)) {
+                xml = new String(in.readNBytes(MAX_INFLATED_BYTES), StandardCharsets.UTF_8);
+            }
+            String text = xml.replaceAll("</w:p>|<w:br/>|<w:tab/>", " ").replaceAll("<[^>]*>", "");
+            return text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                       .replace("&apos;", "'").replace("&amp;", "&");
+        }
+    }
+
+    private static String pdf(byte[] data) throws IOException {
+        String raw = new String(data, StandardCharsets.ISO_8859_1);
+        if (!raw.startsWith("%PDF")) {
+            throw new IOException("Not a PDF document");
+        }
+        StringBuilder text = new StringBuilder();
+        int budget = MAX_INFLATED_BYTES;
+        int pos = 0;
+        int keyword;
+        while (budget > 0 && (keyword = raw.indexOf("stream", pos)) >= 0) {
+            if (keyword >= 3 && raw.startsWith("end", keyword - 3)) {
+                pos = keyword + 6;
+                continue;
+            }
+            int start = keyword + 6;
+            if (raw.startsWith("\r\n", start)) {
+                start += 2;
+            } else if (start < raw.length() && raw.charAt(start) == '\n') {
+                start++;
+            }
+            int end = raw.indexOf("endstream", start);
+            if (end < 0) {
+                break;
+            }
+            String dictionary = raw.substring(Math.max(raw.lastIndexOf("obj", keyword), 0), keyword);
+            if (!dictionary.contains("/Image") && !dictionary.contains("/FontFile")) {
+                byte[] stream = Arrays.copyOfRange(data, start, end);
+                byte[] content = dictionary.contains("/FlateDecode") ? inflate(stream, budget) : stream;
+                if (content != null) {
+                    budget -= content.length;
+                    showText(new String(content, StandardCharsets.ISO_8859_1), text);
+                }
+            }
+            pos = end + 9;
+        }
+        return text.toString();
+    }
+
+    // Inflates at most limit bytes; a longer stream is cut off there
+    private static byte[] inflate(byte[] compressed, int limit) {
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(compressed.length * 4L, limit));
+        byte[] buffer = new byte[8192];
+        try {
+            while (!inflater.finished() && out.size() < limit) {
+                int n = inflater.inflate(buffer, 0, Math.min(buffer.length, limit - out.size()));
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Appends the literal strings shown between BT and ET, one space per text move
+    private static void showText(String content, StringBuilder out) {
+        boolean inText = false;
+        int i = 0;
+        while (i < content.length()) {
+            char c = content.charAt(i);
+            if (c == '(') {
+                StringBuilder literal = new StringBuilder();
+                i = readLiteral(content, i + 1, literal);
+                if (inText) {
+                    out.append(literal);
+                }
+            } else if (c == '%') {
+                while (i < content.length() && content.charAt(i) != '\n' && content.charAt(i) != '\r') i++;
+            } else if (Character.isLetter(c) || c == '*' || c == '\'' || c == '"') {
+                int start = i;
+                while (i < content.length() && (Character.isLetter(content.charAt(i)) || content.charAt(i) == '*')) i++;
+                if (i == start) i++;
+                switch (content.substring(start, i)) {
+                    case "BT" -> inText = true;
+                    case "ET" -> {
+                        inText = false;
+                        out.append(' ');
+                    }
+                    case "Td", "TD", "T*", "'", "\"" -> out.append(' ');
+                    default -> { }
+                }
+            } else {
+                i++;
+            }
+        }
+    }
+
+    // Reads a PDF literal string after its opening '(' and returns the index past the closing ')'
+    private static int readLiteral(String content, int i, StringBuilder literal) {
+        int depth = 1;
+        while (i < content.length()) {
+            char c = content.charAt(i++);
+            if (c == '\\' && i < content.length()) {
+                char escaped = content.charAt(i++);
+                switch (escaped) {
+                    case 'n', 'r', 't' -> literal.append(' ');
+                    case 'b', 'f', '\n', '\r' -> { }
+                    default -> {
+                        if (escaped >= '0' && escaped <= '7') {
+                            int value = escaped - '0';
+                            for (int digits = 1; digits < 3 && i < content.length()
+                                    && content.charAt(i) >= '0' && content.charAt(i) <= '7'; digits++) {
+                                value = value * 8 + content.charAt(i++) - '0';
+                            }
+                            literal.append((char) value);
+                        } else {
+                            literal.append(escaped);
+                        }
+                    }
+                }
+            } else if (c == '(') {
+                depth++;
+                literal.append(c);
+            } else if (c == ')') {
+                if (--depth == 0) {
+                    return i;
+                }
+                literal.append(c);
+            } else {
+                literal.append(c);
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobplatform.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+final class Tokenizer {
+
+    static final int GRAM = 3;
+
+    // Marks field boundaries so that one- and two-character fields still produce grams
+    private static final char PAD = '\u0000';
+
+    private Tokenizer() {}
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // Distinct three-character substrings of already-normalized text. Indexed
+    // fields are padded at both ends; search strings are not.
+    static Set<String> trigrams(String normalized, boolean padded) {
+        String text = padded ? PAD + normalized + PAD : normalized;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // Maximal runs of letters and digits in already-normalized text
+    static List<String> tokens(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalized.substring(start));
+        }
+        return tokens;
+    }
+}
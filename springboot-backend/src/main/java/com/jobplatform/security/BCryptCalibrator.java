@@ -0,0 +1,70 @@
+package com.jobplatform.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+// Picks the BCrypt work factor for this node at startup: the highest cost whose
+// median hash time stays within the configured target. Each extra cost step
+// doubles the work, so only the minimum cost is measured and the rest estimated.
+@Component
+public class BCryptCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptCalibrator.class);
+
+    private static final int SAMPLES = 5;
+
+    @Value("${security.password-hashing.target-millis:50}")
+    private long targetMillis;
+
+    @Value("${security.password-hashing.min-strength:10}")
+    private int minStrength;
+
+    @Value("${security.password-hashing.max-strength:14}")
+    private int maxStrength;
+
+    private int strength;
+
+    @PostConstruct
+    void calibrate() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration warm-up");
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration sample " + i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double millis = nanos[SAMPLES / 2] / 1_000_000.0;
+
+        strength = minStrength;
+        while (strength < maxStrength && millis * 2 <= targetMillis) {
+            strength++;
+            millis *= 2;
+        }
+        logger.info("BCrypt strength {} selected, about {} ms per hash (target {} ms)",
+                strength, Math.round(millis), targetMillis);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // Cost factor encoded in a BCrypt hash such as "$2a$10$...", or -1 if unreadable
+    public static int strengthOf(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -21,34 +22,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
         
         String authHeader = request.getHeader("Authorization");
         String token = null;
-        String userId = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
             try {
-                if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
-                    userId = jwtUtil.getUserIdFromToken(token);
-                    String email = jwtUtil.getEmailFromToken(token);
-                    String role = jwtUtil.getRoleFromToken(token);
-
-                    if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                        UserPrincipal userPrincipal = new UserPrincipal(userId, email, role);
-                        UsernamePasswordAuthenticationToken authToken = 
-                            new UsernamePasswordAuthenticationToken(
-                                userPrincipal, 
-                                null, 
-                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
-                            );
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
+                // Only the first request with a given token pays for signature verification
+                UserPrincipal userPrincipal = verifiedTokenCache.get(token);
+                if (userPrincipal == null) {
+                    Optional<VerifiedToken> verifiedOpt = jwtUtil.verify(token);
+                    if (verifiedOpt.isPresent() && verifiedOpt.get().userId() != null) {
+                        VerifiedToken verified = verifiedOpt.get();
+                        userPrincipal = new UserPrincipal(verified.userId(), verified.email(), verified.role());
+                        verifiedTokenCache.put(token, userPrincipal, verified.expiresAt());
                     }
                 }
+
+                if (userPrincipal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    UsernamePasswordAuthenticationToken authToken = 
+                        new UsernamePasswordAuthenticationToken(
+                            userPrincipal, 
+                            null, 
+                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userPrincipal.getRole().toUpperCase()))
+                        );
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
             } catch (Exception e) {
                 logger.error("Cannot set user authentication: {}", e);
             }
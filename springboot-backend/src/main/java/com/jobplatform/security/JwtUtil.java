@@ -2,6 +2,7 @@ package com.jobplatform.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -9,6 +10,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -19,8 +21,18 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    // Both are immutable and thread-safe, so they are derived once instead of per call
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     public String generateToken(String userId, String email, String role) {
@@ -38,44 +50,22 @@ public class JwtUtil {
                 .compact();
     }
 
-    public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public String getUserIdFromToken(String token) {
-        return getClaimsFromToken(token).get("user_id", String.class);
-    }
-
-    public String getEmailFromToken(String token) {
-        return getClaimsFromToken(token).get("email", String.class);
-    }
-
-    public String getRoleFromToken(String token) {
-        return getClaimsFromToken(token).get("role", String.class);
-    }
-
-    public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = getClaimsFromToken(token).getExpiration();
-            return expiration.before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        }
-    }
-
-    public boolean validateToken(String token) {
+    // Checks signature and expiry with a single parse; empty if either fails.
+    // A token without exp would never expire, so it is rejected outright.
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(
+                    claims.get("user_id", String.class),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    expiration.toInstant()));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
-}
\ No newline at end of file
+}
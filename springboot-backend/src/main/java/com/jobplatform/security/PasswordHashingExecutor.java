@@ -0,0 +1,174 @@
+package com.jobplatform.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs BCrypt hashing and verification on a small dedicated pool with a bounded
+// queue. When both are full the call fails at once with
+// PasswordHashingRejectedException instead of queueing behind a login storm,
+// so request threads stay available for the cheap endpoints.
+@Component
+public class PasswordHashingExecutor {
+
+    // Pause before a bulk import retries a submission the full pool turned away
+    private static final long BULK_RETRY_MILLIS = 20;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${security.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${security.password-hashing.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${security.password-hashing.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Value("${security.password-hashing.bulk-threads:0}")
+    private int bulkThreads;
+
+    private ThreadPoolExecutor executor;
+    private int bulkConcurrency;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        bulkConcurrency = bulkThreads > 0 ? Math.min(bulkThreads, poolSize) : Math.max(1, poolSize / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Hashes a batch for a bulk import. At most bulkConcurrency of its passwords
+    // are in the pool at a time, so interactive logins keep the rest of it, and a
+    // full pool makes the import wait instead of failing.
+    public List<String> encodeAll(List<String> rawPasswords) {
+        Semaphore permits = new Semaphore(bulkConcurrency);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                permits.acquire();
+                Callable<String> task = timed(() -> passwordEncoder.encode(rawPassword));
+                Future<String> future = null;
+                while (future == null) {
+                    try {
+                        future = executor.submit(() -> {
+                            try {
+                                return task.call();
+                            } finally {
+                                permits.release();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        Thread.sleep(BULK_RETRY_MILLIS);
+                    }
+                }
+                futures.add(future);
+            }
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(await(future));
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        }
+    }
+
+    public Stats stats() {
+        long count = completed.sum();
+        return new Stats(executor.getActiveCount(), executor.getQueue().size(), count, rejected.sum(),
+                count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count, maxNanos.get() / 1_000_000.0);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(timed(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException(retryAfterSeconds);
+        }
+
+        try {
+            return await(future);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        }
+    }
+
+    private <T> Callable<T> timed(Callable<T> task) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                completed.increment();
+                totalNanos.add(elapsed);
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+            }
+        };
+    }
+
+    private static <T> T await(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public record Stats(int active, int queued, long completed, long rejected,
+                        double averageMillis, double maxMillis) {}
+}
@@ -0,0 +1,16 @@
+package com.jobplatform.security;
+
+// Thrown when the password hashing pool and its queue are both full
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashingRejectedException(int retryAfterSeconds) {
+        super("Too many concurrent authentication requests");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
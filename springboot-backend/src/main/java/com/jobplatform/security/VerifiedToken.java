@@ -0,0 +1,7 @@
+package com.jobplatform.security;
+
+import java.time.Instant;
+
+// Claims of a bearer token whose signature and expiry have already been checked
+public record VerifiedToken(String userId, String email, String role, Instant expiresAt) {
+}
@@ -0,0 +1,100 @@
+package com.jobplatform.security;
+
+import com.jobplatform.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Principals of bearer tokens that already passed signature verification, keyed
+// by a SHA-256 digest of the token so raw tokens are never held in memory. An
+// entry never outlives its token's exp. Lookups go to a ConcurrentHashMap and
+// never take a shared lock; when full, expired entries are dropped first and
+// then arbitrary ones, since a dropped entry only costs one more verification.
+// A sweep trims down to a low-water mark, so the O(n) pass is paid once per
+// tenth of the capacity inserted, and only one thread sweeps at a time.
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.token-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // Fraction of maxEntries a sweep trims the cache down to
+    private static final double LOW_WATER_MARK = 0.9;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPrincipal get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.expiresAt().isAfter(Instant.now())) {
+            if (entries.remove(key, entry)) evictions.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal();
+    }
+
+    public void put(String token, UserPrincipal principal, Instant expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries && sweeping.compareAndSet(false, true)) {
+            try {
+                makeRoom();
+            } finally {
+                sweeping.set(false);
+            }
+        }
+        entries.put(digest(token), new Entry(principal, expiresAt));
+    }
+
+    public BoundedCache.Stats stats() {
+        return new BoundedCache.Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void makeRoom() {
+        Instant now = Instant.now();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = !e.getValue().expiresAt().isAfter(now);
+            if (expired) evictions.increment();
+            return expired;
+        });
+        int target = (int) (maxEntries * LOW_WATER_MARK);
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(UserPrincipal principal, Instant expiresAt) {}
+}
@@ -1,80 +1,276 @@
 package com.jobplatform.service;
 
+import com.jobplatform.cache.JobCache;
+import com.jobplatform.dto.ApplicationCursor;
+import com.jobplatform.dto.ApplicationOwnership;
+import com.jobplatform.dto.ApplicationSummary;
+import com.jobplatform.dto.ApplicationSummaryPage;
+import com.jobplatform.dto.ApplicationWithJobDetails;
+import com.jobplatform.dto.BulkStatusUpdateRequest;
+import com.jobplatform.dto.BulkStatusUpdateResponse;
 import com.jobplatform.entity.Application;
 import com.jobplatform.entity.Job;
 import com.jobplatform.repository.ApplicationRepository;
-import com.jobplatform.repository.JobRepository;
+import com.jobplatform.search.ApplicationResumeIndex;
+import com.jobplatform.search.ResumeIndexingPipeline;
+import com.jobplatform.storage.ResumeStorage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ApplicationService {
 
+    // Ids per UPDATE ... IN (...) statement
+    private static final int STATUS_UPDATE_CHUNK = 500;
+
     @Autowired
     private ApplicationRepository applicationRepository;
 
     @Autowired
-    private JobRepository jobRepository;
+    private JobCache jobCache;
 
-    private final Path uploadPath = Paths.get("uploads");
+    @Autowired
+    private ResumeStorage resumeStorage;
 
-    public boolean hasAlreadyApplied(String jobId, String applicantId) {
-        return applicationRepository.existsByJobIdAndApplicantId(jobId, applicantId);
-    }
+    @Autowired
+    private ResumeIndexingPipeline resumeIndexingPipeline;
+
+    @Autowired
+    private ApplicationResumeIndex applicationResumeIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobApplicationStatsService jobApplicationStatsService;
 
     public Optional<Job> getJobById(String jobId) {
-        return jobRepository.findByJobId(jobId);
+        return jobCache.findByJobId(jobId);
     }
 
-    public Application createApplication(String jobId, String applicantId, String fullName, 
-                                       String email, String phone, String coverLetter, 
-                                       MultipartFile resume) throws IOException {
-        // Create uploads directory if it doesn't exist
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
+    // Insert-first apply. The resume is spooled and hashed up front, then a single
+    // INSERT and the move of the file into place run in one transaction, so a
+    // duplicate fails on the unique (job_id, applicant_id) index before anything
+    // becomes visible. Only a failed insert costs a read, to tell a retried
+    // request (same Idempotency-Key) from a second application.
+    public ApplyResult createApplication(String jobId, String applicantId, String fullName,
+                                         String email, String phone, String coverLetter,
+                                         MultipartFile resume, String idempotencyKey) throws IOException {
+        ResumeStorage.PendingResume pending = resumeStorage.prepare(resume);
+        try {
+            Application application = new Application(UUID.randomUUID().toString(), jobId, applicantId, fullName,
+                                                      email, phone, coverLetter, pending.filename(), "applied");
+            application.setCreatedAt(LocalDateTime.now());
+            application.setIdempotencyKey(idempotencyKey);
 
-        // Save resume file
-        String resumeFilename = UUID.randomUUID().toString() + "_" + resume.getOriginalFilename();
-        Path resumePath = uploadPath.resolve(resumeFilename);
-        Files.copy(resume.getInputStream(), resumePath);
-
-        // Create application
-        String applicationId = UUID.randomUUID().toString();
-        Application application = new Application(applicationId, jobId, applicantId, fullName, 
-                                                email, phone, coverLetter, resumeFilename, "applied");
-        
-        return applicationRepository.save(application);
+            transactionTemplate.executeWithoutResult(status -> {
+                applicationRepository.insert(application);
+                jobApplicationStatsService.applicationAdded(jobId, application.getStatus());
+                try {
+                    resumeStorage.commit(pending);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            resumeIndexingPipeline.wake();
+            return new ApplyResult(ApplyOutcome.CREATED, application);
+        } catch (DataIntegrityViolationException e) {
+            Application existing = applicationRepository.findByJobIdAndApplicantId(jobId, applicantId)
+                    .orElseThrow(() -> e);
+            boolean retried = idempotencyKey != null && idempotencyKey.equals(existing.getIdempotencyKey());
+            return new ApplyResult(retried ? ApplyOutcome.REPLAYED : ApplyOutcome.ALREADY_APPLIED, existing);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            resumeStorage.discard(pending);
+        }
     }
 
     public List<Application> getApplicationsByApplicant(String applicantId) {
         return applicationRepository.findByApplicantIdOrderByCreatedAtDesc(applicantId);
     }
 
-    public List<Application> getApplicationsByJob(String jobId) {
-        return applicationRepository.findByJobIdOrderByCreatedAtDesc(jobId);
+    public List<ApplicationWithJobDetails> getApplicationsWithJobDetails(String applicantId, Pageable pageable) {
+        return applicationRepository.findWithJobDetailsByApplicantId(applicantId, pageable);
+    }
+
+    // The newest applications of a job, at most limit of them
+    public List<Application> getApplicationsByJob(String jobId, int limit) {
+        return applicationRepository.findByJobIdOrderByCreatedAtDesc(jobId, PageRequest.of(0, limit));
+    }
+
+    // One page of a job's applications as summaries, optionally limited to one status.
+    // One extra row is read to know whether a next page exists.
+    public ApplicationSummaryPage getApplicationSummaries(String jobId, String status, ApplicationCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<ApplicationSummary> rows;
+        if (status == null) {
+            rows = cursor == null
+                ? applicationRepository.findSummariesByJobId(jobId, pageable)
+                : applicationRepository.findSummariesByJobIdAfter(jobId, cursor.createdAt(), cursor.applicationId(), pageable);
+        } else {
+            rows = cursor == null
+                ? applicationRepository.findSummariesByJobIdAndStatus(jobId, status, pageable)
+                : applicationRepository.findSummariesByJobIdAndStatusAfter(jobId, status, cursor.createdAt(),
+                                                                         cursor.applicationId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            nextCursor = ApplicationCursor.of(rows.get(limit - 1)).encode();
+        }
+        return new ApplicationSummaryPage(rows, limit, nextCursor);
+    }
+
+    // Applications to the job whose resume text matches the query, best match first
+    public List<Application> searchApplicationsByResume(String jobId, String query, int limit) {
+        List<String> applicationIds = applicationResumeIndex.search(jobId, query, limit);
+        Map<String, Application> byId = applicationRepository.findAllById(applicationIds).stream()
+                .collect(Collectors.toMap(Application::getApplicationId, Function.identity()));
+        return applicationIds.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
-    public Optional<Application> updateApplicationStatus(String applicationId, String status) {
-        Optional<Application> applicationOpt = applicationRepository.findByApplicationId(applicationId);
-        if (applicationOpt.isPresent()) {
-            Application application = applicationOpt.get();
-            application.setStatus(status);
-            return Optional.of(applicationRepository.save(application));
+    // One statement checks ownership, changes the status and returns the status it
+    // replaced, which shifts the job's counters. Only when nothing moved is the
+    // application read, to tell a missing one, someone else's and an unchanged one apart.
+    @Transactional
+    public StatusUpdateResult updateApplicationStatus(String applicationId, String employerId, String status) {
+        List<Object[]> moved = applicationRepository.updateStatusIfOwned(applicationId, employerId, status);
+        if (!moved.isEmpty()) {
+            Object[] previous = moved.get(0);
+            jobApplicationStatsService.statusChanged((String) previous[0], (String) previous[1], status, 1);
+            return StatusUpdateResult.UPDATED;
+        }
+        Optional<ApplicationOwnership> ownershipOpt = applicationRepository.findOwnershipById(applicationId);
+        if (ownershipOpt.isEmpty()) {
+            return StatusUpdateResult.NOT_FOUND;
+        }
+        if (!employerId.equals(ownershipOpt.get().employerId())) {
+            return StatusUpdateResult.FORBIDDEN;
+        }
+        return StatusUpdateResult.UPDATED;
+    }
+
+    // Applies many status changes for one employer: one query checks ownership and
+    // reads the current status of every application, then one guarded UPDATE per
+    // (job, old status, new status) group and chunk, all in a single transaction
+    @Transactional
+    public BulkStatusUpdateResponse updateApplicationStatuses(String employerId, List<BulkStatusUpdateRequest.Item> updates) {
+        Map<String, ApplicationOwnership> ownerships = new HashMap<>();
+        Set<String> requestedIds = updates.stream().map(BulkStatusUpdateRequest.Item::getApplicationId)
+                .collect(Collectors.toSet());
+        for (ApplicationOwnership ownership : applicationRepository.findOwnership(requestedIds)) {
+            if (ownership.employerId() != null) {
+                ownerships.put(ownership.applicationId(), ownership);
+            }
+        }
+
+        BulkStatusUpdateResponse response = new BulkStatusUpdateResponse();
+        Map<String, BulkStatusUpdateResponse.ItemResult> pendingResults = new HashMap<>();
+        Map<StatusMove, List<String>> idsByMove = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        int unchanged = 0;
+        for (BulkStatusUpdateRequest.Item item : updates) {
+            String applicationId = item.getApplicationId();
+            ApplicationOwnership ownership = ownerships.get(applicationId);
+            String result;
+            if (!seen.add(applicationId)) {
+                result = "duplicate";
+            } else if (!isValidStatus(item.getStatus())) {
+                result = "invalid_status";
+            } else if (ownership == null) {
+                result = "not_found";
+            } else if (!ownership.employerId().equals(employerId)) {
+                result = "forbidden";
+            } else if (ownership.status().equals(item.getStatus())) {
+                unchanged++;
+                result = "updated";
+            } else {
+                StatusMove move = new StatusMove(ownership.jobId(), ownership.status(), item.getStatus());
+                idsByMove.computeIfAbsent(move, m -> new ArrayList<>()).add(applicationId);
+                result = null;
+            }
+            BulkStatusUpdateResponse.ItemResult itemResult =
+                    new BulkStatusUpdateResponse.ItemResult(applicationId, item.getStatus(), result);
+            if (result == null) {
+                pendingResults.put(applicationId, itemResult);
+            }
+            response.getResults().add(itemResult);
+        }
+
+        // Rows changed by someone else since the read are not moved. A chunk that moved
+        // fewer rows than it named is re-read: rows already in the target status count
+        // as updated, the rest are reported as conflicts. The job counters are shifted
+        // only by the rows this UPDATE moved.
+        int updated = unchanged;
+        for (Map.Entry<StatusMove, List<String>> entry : idsByMove.entrySet()) {
+            StatusMove move = entry.getKey();
+            List<String> ids = entry.getValue();
+            int moved = 0;
+            for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK) {
+                List<String> chunk = ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK, ids.size()));
+                int chunkMoved = applicationRepository.updateStatusFrom(chunk, move.from(), move.to());
+                Set<String> nowInTarget = new HashSet<>(chunk);
+                if (chunkMoved < chunk.size()) {
+                    nowInTarget.clear();
+                    for (ApplicationOwnership current : applicationRepository.findOwnership(chunk)) {
+                        if (current.status().equals(move.to())) {
+                            nowInTarget.add(current.applicationId());
+                        }
+                    }
+                }
+                for (String applicationId : chunk) {
+                    boolean done = nowInTarget.contains(applicationId);
+                    pendingResults.get(applicationId).setResult(done ? "updated" : "conflict");
+                    if (done) {
+                        updated++;
+                    }
+                }
+                moved += chunkMoved;
+            }
+            jobApplicationStatsService.statusChanged(move.jobId(), move.from(), move.to(), moved);
         }
-        return Optional.empty();
+        response.setUpdated(updated);
+        response.setSkipped(updates.size() - updated);
+        return response;
+    }
+
+    public static boolean isValidStatus(String status) {
+        return "applied".equals(status) || "approved".equals(status) ||
+               "rejected".equals(status) || "waitlisted".equals(status);
     }
 
     public Optional<Application> getApplicationById(String applicationId) {
         return applicationRepository.findByApplicationId(applicationId);
     }
-}
\ No newline at end of file
+
+    public enum ApplyOutcome { CREATED, REPLAYED, ALREADY_APPLIED }
+
+    public record ApplyResult(ApplyOutcome outcome, Application application) {}
+
+    public enum StatusUpdateResult { UPDATED, NOT_FOUND, FORBIDDEN }
+
+    private record StatusMove(String jobId, String from, String to) {}
+}
@@ -0,0 +1,135 @@
+package com.jobplatform.service;
+
+import com.jobplatform.entity.JobApplicationStats;
+import com.jobplatform.repository.JobApplicationStatsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Per-job application counts by status in job_application_stats. Every write
+// that adds, re-statuses or removes applications applies its delta with one
+// UPDATE in the same transaction, so the counts are exactly as consistent as
+// the applications themselves. Jobs that predate the table are counted once at
+// startup, before requests are accepted.
+@Service
+public class JobApplicationStatsService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApplicationStatsService.class);
+
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate separateTransaction;
+
+    @PostConstruct
+    void init() {
+        separateTransaction = new TransactionTemplate(transactionManager);
+        separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int backfilled = statsRepository.backfillMissing();
+        if (backfilled > 0) {
+            logger.info("Counted applications for {} jobs without application stats", backfilled);
+        }
+    }
+
+    public void jobCreated(String jobId) {
+        try {
+            statsRepository.insertEmpty(jobId);
+        } catch (DataIntegrityViolationException e) {
+            // A first application already created the row from its backfill
+        }
+    }
+
+    public void jobDeleted(String jobId) {
+        statsRepository.deleteByJobId(jobId);
+    }
+
+    public void applicationAdded(String jobId, String status) {
+        add(jobId, status, 1);
+    }
+
+    public void statusChanged(String jobId, String oldStatus, String newStatus, int count) {
+        if (count == 0 || oldStatus.equals(newStatus)) {
+            return;
+        }
+        long[] deltas = new long[4];
+        deltas[slot(oldStatus)] -= count;
+        deltas[slot(newStatus)] += count;
+        apply(jobId, deltas);
+    }
+
+    // Counts keyed by status in a fixed order; jobs without a row count as all zero
+    public Map<String, Map<String, Long>> countsFor(Collection<String> jobIds) {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return counts;
+        }
+        for (JobApplicationStats stats : statsRepository.findByJobIdIn(jobIds)) {
+            counts.put(stats.getJobId(), toMap(stats));
+        }
+        for (String jobId : jobIds) {
+            counts.computeIfAbsent(jobId, id -> toMap(new JobApplicationStats(id)));
+        }
+        return counts;
+    }
+
+    private void add(String jobId, String status, int count) {
+        long[] deltas = new long[4];
+        deltas[slot(status)] += count;
+        apply(jobId, deltas);
+    }
+
+    // A job without a row yet gets one counted from its committed applications in
+    // a separate transaction, and the delta is then added as usual. Counting on
+    // the side leaves out this write's own change and any other still-open write,
+    // each of which adds its own delta; if a concurrent writer creates the row
+    // first, the losing insert is rolled back alone and its caller's is unharmed.
+    private void apply(String jobId, long[] deltas) {
+        if (statsRepository.add(jobId, deltas[0], deltas[1], deltas[2], deltas[3]) > 0) {
+            return;
+        }
+        try {
+            separateTransaction.executeWithoutResult(status -> statsRepository.backfillJob(jobId));
+        } catch (DataIntegrityViolationException e) {
+            // Another writer created the row
+        }
+        statsRepository.add(jobId, deltas[0], deltas[1], deltas[2], deltas[3]);
+    }
+
+    private static int slot(String status) {
+        return switch (status) {
+            case "applied" -> 0;
+            case "approved" -> 1;
+            case "rejected" -> 2;
+            case "waitlisted" -> 3;
+            default -> throw new IllegalArgumentException("Unknown application status: " + status);
+        };
+    }
+
+    private static Map<String, Long> toMap(JobApplicationStats stats) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("applied", stats.getApplied());
+        map.put("approved", stats.getApproved());
+        map.put("rejected", stats.getRejected());
+        map.put("waitlisted", stats.getWaitlisted());
+        return map;
+    }
+}
@@ -1,53 +1,213 @@
 package com.jobplatform.service;
 
+import com.jobplatform.cache.JobCache;
+import com.jobplatform.cache.JobCountCache;
+import com.jobplatform.cache.JobListingCache;
+import com.jobplatform.dto.JobCursor;
+import com.jobplatform.dto.JobWithApplicationStats;
 import com.jobplatform.dto.JobsResponse;
 import com.jobplatform.entity.Job;
 import com.jobplatform.repository.ApplicationRepository;
 import com.jobplatform.repository.JobRepository;
+import com.jobplatform.repository.ResumeTextRepository;
+import com.jobplatform.search.ApplicationResumeIndex;
+import com.jobplatform.search.JobFacetIndex;
+import com.jobplatform.search.JobIndex;
+import com.jobplatform.search.JobRankIndex;
+import com.jobplatform.search.JobSearchIndex;
+import com.jobplatform.search.JobSuggestIndex;
+import com.jobplatform.storage.ResumeStorage;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class JobService {
 
+    private static final Sort LISTING_ORDER = Sort.by("createdAt").descending().and(Sort.by("jobId").descending());
+
+    private static final int FACET_VALUES = 10;
+
     @Autowired
     private JobRepository jobRepository;
 
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobFacetIndex jobFacetIndex;
+
+    @Autowired
+    private JobSuggestIndex jobSuggestIndex;
+
+    @Autowired
+    private JobRankIndex jobRankIndex;
+
+    @Autowired
+    private List<JobIndex> jobIndexes;
+
+    @Autowired
+    private JobCountCache jobCountCache;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private JobListingCache jobListingCache;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private ApplicationResumeIndex applicationResumeIndex;
+
+    @Autowired
+    private JobApplicationStatsService jobApplicationStatsService;
+
     public JobsResponse getJobs(int page, int limit, String search) {
-        Pageable pageable = PageRequest.of(page - 1, limit, Sort.by("createdAt").descending());
-        
-        Page<Job> jobPage;
-        if (search != null && !search.trim().isEmpty()) {
-            jobPage = jobRepository.findBySearchTerm(search.trim(), pageable);
+        return getJobs(page, limit, search, null, false, false, false);
+    }
+
+    // With a cursor, page is ignored and the listing continues right after the
+    // cursor's job, so deep pages cost the same as the first one. With
+    // approximateTotal, a search total that is not cached yet is reported as a
+    // lower bound instead of being counted. Facets are only available when the
+    // whole result set is known in memory, i.e. for the catalog and index-served searches.
+    // rankByRelevance orders searches by BM25 score instead of recency; cursors do not apply to it.
+    public JobsResponse getJobs(int page, int limit, String search, JobCursor cursor,
+                                boolean approximateTotal, boolean includeFacets, boolean rankByRelevance) {
+        String cacheKey = search == null ? "" : search.trim().toLowerCase(Locale.ROOT);
+        return jobListingCache.get(cacheKey, page, limit, cursor, approximateTotal, includeFacets, rankByRelevance, () -> {
+            JobsResponse response = loadJobs(page, limit, search, cursor, approximateTotal, includeFacets, rankByRelevance);
+            // Cached responses are serialized after this session is gone
+            response.getJobs().forEach(job -> Hibernate.initialize(job.getSkills()));
+            return response;
+        });
+    }
+
+    private JobsResponse loadJobs(int page, int limit, String search, JobCursor cursor,
+                                  boolean approximateTotal, boolean includeFacets, boolean rankByRelevance) {
+        Pageable pageable = PageRequest.of(page - 1, limit, LISTING_ORDER);
+        boolean searching = search != null && !search.trim().isEmpty();
+
+        if (searching && rankByRelevance) {
+            JobSearchIndex.Hits hits = jobRankIndex.rank(search.trim(), offset(pageable), limit, includeFacets);
+            JobsResponse response = new JobsResponse(loadInOrder(hits.jobIds()), hits.total(), page, limit,
+                                                     (int) Math.ceil((double) hits.total() / limit));
+            if (includeFacets) {
+                response.setFacets(jobFacetIndex.counts(hits.matchedJobIds(), FACET_VALUES));
+            }
+            return response;
+        }
+
+        if (searching && jobSearchIndex.supports(search.trim())) {
+            int offset = cursor == null ? offset(pageable) : 0;
+            JobSearchIndex.Hits hits = jobSearchIndex.search(search.trim(), offset, limit, cursor, includeFacets);
+            JobsResponse response = toResponse(loadInOrder(hits.jobIds()), hits.total(), false, page, limit, hits.hasMore());
+            if (includeFacets) {
+                response.setFacets(jobFacetIndex.counts(hits.matchedJobIds(), FACET_VALUES));
+            }
+            return response;
+        }
+
+        List<Job> jobs;
+        boolean hasMore;
+        if (cursor != null) {
+            // Fetch one extra row to learn whether another page follows
+            Pageable window = PageRequest.of(0, limit + 1);
+            if (searching) {
+                jobs = jobRepository.findPageAfterBySearchTerm(search.trim(), cursor.createdAt(), cursor.jobId(), window);
+            } else {
+                jobs = jobRepository.findPageAfter(cursor.createdAt(), cursor.jobId(), window);
+            }
+            hasMore = jobs.size() > limit;
+            if (hasMore) {
+                jobs = jobs.subList(0, limit);
+            }
         } else {
-            jobPage = jobRepository.findAll(pageable);
+            Slice<Job> jobSlice;
+            if (searching) {
+                jobSlice = jobRepository.findSliceBySearchTerm(search.trim(), pageable);
+            } else {
+                jobSlice = jobRepository.findListingSlice(pageable);
+            }
+            jobs = jobSlice.getContent();
+            hasMore = jobSlice.hasNext();
+        }
+
+        if (!searching) {
+            JobsResponse response = toResponse(jobs, jobCountCache.catalogCount(), false, page, limit, hasMore);
+            if (includeFacets) {
+                response.setFacets(jobFacetIndex.counts(null, FACET_VALUES));
+            }
+            return response;
+        }
+
+        String countKey = search.trim().toLowerCase(Locale.ROOT);
+        OptionalLong cachedTotal = jobCountCache.searchCount(countKey);
+        if (cachedTotal.isPresent()) {
+            return toResponse(jobs, cachedTotal.getAsLong(), false, page, limit, hasMore);
         }
+        if (approximateTotal) {
+            long seen = (cursor == null ? pageable.getOffset() : 0) + jobs.size() + (hasMore ? 1 : 0);
+            return toResponse(jobs, seen, true, page, limit, hasMore);
+        }
+        long total = jobRepository.countBySearchTerm(search.trim());
+        jobCountCache.putSearchCount(countKey, total);
+        return toResponse(jobs, total, false, page, limit, hasMore);
+    }
+
+    private JobsResponse toResponse(List<Job> jobs, long total, boolean totalApproximate,
+                                    int page, int limit, boolean hasMore) {
+        int totalPages = (int) Math.ceil((double) total / limit);
+        JobsResponse response = new JobsResponse(jobs, total, page, limit, totalPages);
+        response.setTotalApproximate(totalApproximate);
+        if (hasMore && !jobs.isEmpty()) {
+            response.setNextCursor(JobCursor.of(jobs.get(jobs.size() - 1)).encode());
+        }
+        return response;
+    }
+
+    // Pages past the last int offset simply come back empty from the in-memory indexes
+    private static int offset(Pageable pageable) {
+        return (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    }
 
-        int totalPages = (int) Math.ceil((double) jobPage.getTotalElements() / limit);
-        
-        return new JobsResponse(
-            jobPage.getContent(),
-            jobPage.getTotalElements(),
-            page,
-            limit,
-            totalPages
-        );
+    public List<JobSuggestIndex.Suggestion> suggest(String prefix, int limit) {
+        return jobSuggestIndex.suggest(prefix, Math.min(limit, JobSuggestIndex.MAX_SUGGESTIONS));
+    }
+
+    private List<Job> loadInOrder(List<String> jobIds) {
+        Map<String, Job> jobsById = jobRepository.findAllById(jobIds).stream()
+            .collect(Collectors.toMap(Job::getJobId, Function.identity()));
+        return jobIds.stream().map(jobsById::get).filter(Objects::nonNull).toList();
     }
 
     public Optional<Job> getJobById(String jobId) {
-        return jobRepository.findByJobId(jobId);
+        return jobCache.findByJobId(jobId);
     }
 
     public Job createJob(String employerId, String title, String company, String location, 
@@ -56,13 +216,27 @@ public class JobService {
         String jobId = UUID.randomUUID().toString();
         Job job = new Job(jobId, employerId, title, company, location, description, 
                          requirements, salaryRange, skills, applicationDeadline);
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        jobApplicationStatsService.jobCreated(jobId);
+        jobIndexes.forEach(index -> index.index(savedJob));
+        jobCountCache.jobAdded();
+        jobListingCache.catalogChanged();
+        return savedJob;
     }
 
     public List<Job> getJobsByEmployer(String employerId) {
         return jobRepository.findByEmployerIdOrderByCreatedAtDesc(employerId);
     }
 
+    // The employer's jobs, each with its application counts by status: one query
+    // for the jobs and one for their counters, however many applications there are
+    public List<JobWithApplicationStats> getJobsByEmployerWithStats(String employerId) {
+        List<Job> jobs = getJobsByEmployer(employerId);
+        Map<String, Map<String, Long>> counts = jobApplicationStatsService.countsFor(
+                jobs.stream().map(Job::getJobId).toList());
+        return jobs.stream().map(job -> new JobWithApplicationStats(job, counts.get(job.getJobId()))).toList();
+    }
+
     public Optional<Job> updateJob(String jobId, String employerId, Job updatedJob) {
         Optional<Job> existingJobOpt = jobRepository.findByJobId(jobId);
         if (existingJobOpt.isPresent()) {
@@ -77,7 +251,12 @@ public class JobService {
                 if (updatedJob.getSkills() != null) existingJob.setSkills(updatedJob.getSkills());
                 if (updatedJob.getApplicationDeadline() != null) existingJob.setApplicationDeadline(updatedJob.getApplicationDeadline());
                 
-                return Optional.of(jobRepository.save(existingJob));
+                Job savedJob = jobRepository.save(existingJob);
+                jobIndexes.forEach(index -> index.index(savedJob));
+                jobCountCache.invalidateSearchCounts();
+                jobCache.invalidate(jobId);
+                jobListingCache.catalogChanged();
+                return Optional.of(savedJob);
             }
         }
         return Optional.empty();
@@ -87,8 +266,19 @@ public class JobService {
     public boolean deleteJob(String jobId, String employerId) {
         Optional<Job> jobOpt = jobRepository.findByJobId(jobId);
         if (jobOpt.isPresent() && jobOpt.get().getEmployerId().equals(employerId)) {
+            List<String> resumeFilenames = applicationRepository.findResumeFilenamesByJobId(jobId);
             applicationRepository.deleteByJobId(jobId);
+            resumeTextRepository.deleteByJobId(jobId);
+            jobApplicationStatsService.jobDeleted(jobId);
             jobRepository.delete(jobOpt.get());
+            afterCommit(() -> {
+                jobIndexes.forEach(index -> index.remove(jobId));
+                jobCountCache.jobRemoved();
+                jobCache.invalidate(jobId);
+                jobListingCache.catalogChanged();
+                resumeStorage.release(resumeFilenames);
+                applicationResumeIndex.removeJob(jobId);
+            });
             return true;
         }
         return false;
@@ -98,13 +288,40 @@ public class JobService {
     public boolean deleteJobByAdmin(String jobId) {
         Optional<Job> jobOpt = jobRepository.findByJobId(jobId);
         if (jobOpt.isPresent()) {
+            List<String> resumeFilenames = applicationRepository.findResumeFilenamesByJobId(jobId);
             applicationRepository.deleteByJobId(jobId);
+            resumeTextRepository.deleteByJobId(jobId);
+            jobApplicationStatsService.jobDeleted(jobId);
             jobRepository.delete(jobOpt.get());
+            afterCommit(() -> {
+                jobIndexes.forEach(index -> index.remove(jobId));
+                jobCountCache.jobRemoved();
+                jobCache.invalidate(jobId);
+                jobListingCache.catalogChanged();
+                resumeStorage.release(resumeFilenames);
+                applicationResumeIndex.removeJob(jobId);
+            });
             return true;
         }
         return false;
     }
 
+    // Cache invalidation and index removal must not run before the delete is visible
+    // (a rolled-back delete would leave the job unsearchable), and a concurrent
+    // reader could otherwise load and re-cache data that is about to disappear
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     public List<Job> getAllJobs() {
         return jobRepository.findAll(Sort.by("createdAt").descending());
     }
@@ -0,0 +1,230 @@
+package com.jobplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobplatform.dto.BulkProvisioningResponse;
+import com.jobplatform.dto.UserRegisterRequest;
+import com.jobplatform.entity.User;
+import com.jobplatform.repository.UserBatchRepository;
+import com.jobplatform.repository.UserRepository;
+import com.jobplatform.security.PasswordHashingExecutor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Loads users from a streamed CSV or NDJSON body in fixed-size batches. Each
+// batch costs one email-uniqueness query, a hashing pass on a bounded share of
+// the password hashing pool and one JDBC batch insert, and only one batch is
+// held in memory at a time.
+@Service
+public class UserProvisioningService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserBatchRepository userBatchRepository;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public BulkProvisioningResponse provision(BufferedReader reader, boolean csv) throws IOException {
+        BulkProvisioningResponse response = new BulkProvisioningResponse();
+        // Duplicates are caught per batch here; a later batch repeating an email finds it
+        // already registered, so memory stays at one batch however long the upload is
+        Set<String> batchEmails = new HashSet<>();
+        List<Row> batch = new ArrayList<>(BATCH_SIZE);
+
+        String[] header = null;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && opensQuote(line, false)) {
+                // A quoted field running onto the next line is not split into rows; its
+                // continuation lines are consumed and the record is reported once
+                int firstLine = lineNumber;
+                boolean open = true;
+                while (open && (line = reader.readLine()) != null) {
+                    lineNumber++;
+                    open = opensQuote(line, true);
+                }
+                reject(response, firstLine, null, "Quoted field spans lines");
+                continue;
+            }
+            UserRegisterRequest request;
+            try {
+                if (csv) {
+                    if (header == null) {
+                        header = splitCsv(line).toArray(new String[0]);
+                        continue;
+                    }
+                    request = fromCsv(header, splitCsv(line));
+                } else {
+                    request = objectMapper.readValue(line, UserRegisterRequest.class);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                reject(response, lineNumber, null, "Malformed row");
+                continue;
+            }
+
+            String problem = validate(request);
+            if (problem != null) {
+                reject(response, lineNumber, request.getEmail(), problem);
+                continue;
+            }
+            if (!batchEmails.add(request.getEmail())) {
+                reject(response, lineNumber, request.getEmail(), "Duplicate email in upload");
+                continue;
+            }
+
+            batch.add(new Row(lineNumber, request));
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch, response);
+                batch.clear();
+                batchEmails.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, response);
+        }
+        return response;
+    }
+
+    private void flush(List<Row> batch, BulkProvisioningResponse response) {
+        Set<String> existing = userRepository.findExistingEmails(batch.stream().map(row -> row.request().getEmail()).toList());
+        List<Row> fresh = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (existing.contains(row.request().getEmail())) {
+                reject(response, row.line(), row.request().getEmail(), "Email already registered");
+            } else {
+                fresh.add(row);
+            }
+        }
+
+        List<String> hashes = passwordHashingExecutor.encodeAll(
+                fresh.stream().map(row -> row.request().getPassword()).toList());
+        List<User> users = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            UserRegisterRequest request = fresh.get(i).request();
+            users.add(new User(UUID.randomUUID().toString(), request.getEmail(), hashes.get(i),
+                               request.getRole(), request.getFullName(),
+                               "employer".equals(request.getRole()) ? request.getCompany() : null));
+        }
+
+        try {
+            userBatchRepository.insertAll(users);
+            response.setCreated(response.getCreated() + users.size());
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these emails since the check; fall back to row by row
+            for (int i = 0; i < users.size(); i++) {
+                try {
+                    userBatchRepository.insertAll(List.of(users.get(i)));
+                    response.setCreated(response.getCreated() + 1);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    reject(response, fresh.get(i).line(), users.get(i).getEmail(), "Email already registered");
+                }
+            }
+        }
+    }
+
+    private String validate(UserRegisterRequest request) {
+        Set<ConstraintViolation<UserRegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<UserRegisterRequest> violation = violations.iterator().next();
+            return violation.getPropertyPath() + " " + violation.getMessage();
+        }
+        if (!"employer".equals(request.getRole()) && !"jobseeker".equals(request.getRole())) {
+            return "Invalid role";
+        }
+        return null;
+    }
+
+    private static void reject(BulkProvisioningResponse response, int line, String email, String reason) {
+        response.setSkipped(response.getSkipped() + 1);
+        if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+            response.getErrors().add(new BulkProvisioningResponse.RowError(line, email, reason));
+        }
+    }
+
+    // Columns are matched by header name: email, password, role, fullName, company
+    private static UserRegisterRequest fromCsv(String[] header, List<String> values) {
+        if (values.size() != header.length) {
+            throw new IllegalArgumentException("Column count mismatch");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            fields.put(header[i].trim(), values.get(i));
+        }
+        return new UserRegisterRequest(fields.get("email"), fields.get("password"), fields.get("role"),
+                                       fields.get("fullName"), fields.get("company"));
+    }
+
+    // Comma-separated values; double quotes enclose fields containing commas, "" is a literal quote
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    // Whether a line ends inside a quoted field; every quote toggles, "" twice
+    private static boolean opensQuote(String line, boolean startsQuoted) {
+        boolean quoted = startsQuoted;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
+    private record Row(int line, UserRegisterRequest request) {}
+}
@@ -2,8 +2,12 @@ package com.jobplatform.service;
 
 import com.jobplatform.entity.User;
 import com.jobplatform.repository.UserRepository;
+import com.jobplatform.security.BCryptCalibrator;
+import com.jobplatform.security.PasswordHashingExecutor;
+import com.jobplatform.security.PasswordHashingRejectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -12,11 +16,16 @@ import java.util.UUID;
 @Service
 public class UserService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private BCryptCalibrator bCryptCalibrator;
 
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
@@ -24,7 +33,7 @@ public class UserService {
 
     public User createUser(String email, String password, String role, String fullName, String company) {
         String userId = UUID.randomUUID().toString();
-        String hashedPassword = passwordEncoder.encode(password);
+        String hashedPassword = passwordHashingExecutor.encode(password);
         
         User user = new User(userId, email, hashedPassword, role, fullName, company);
         return userRepository.save(user);
@@ -35,13 +44,29 @@ public class UserService {
     }
 
     public boolean verifyPassword(String rawPassword, String hashedPassword) {
-        return passwordEncoder.matches(rawPassword, hashedPassword);
+        return passwordHashingExecutor.matches(rawPassword, hashedPassword);
+    }
+
+    // Re-hashes a just-verified password whose stored cost differs from this node's
+    // calibrated strength. Skipped when the hashing pool is saturated; the next login retries.
+    public void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (BCryptCalibrator.strengthOf(user.getPassword()) == bCryptCalibrator.getStrength()) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHashingExecutor.encode(rawPassword));
+            userRepository.save(user);
+            logger.debug("Upgraded password hash of user {} to strength {}", user.getUserId(), bCryptCalibrator.getStrength());
+        } catch (PasswordHashingRejectedException e) {
+            // Keep the old hash for now
+            logger.debug("Hashing pool busy; password hash of user {} left for the next login", user.getUserId());
+        }
     }
 
     public void initializeAdmin() {
         if (!userRepository.existsByEmail("admin@jobplatform.com")) {
-            User admin = createUser("admin@jobplatform.com", "admin123", "admin", "Administrator", null);
-            System.out.println("Admin user created");
+            createUser("admin@jobplatform.com", "admin123", "admin", "Administrator", null);
+            logger.info("Admin user created");
         }
     }
 }
\ No newline at end of file
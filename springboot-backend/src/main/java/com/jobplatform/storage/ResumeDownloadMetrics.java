@@ -0,0 +1,59 @@
+package com.jobplatform.storage;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters for GET /api/resumes/{filename}: how many responses of each kind,
+// bytes written and time spent producing them. For a sendfile response the
+// time ends when the body is handed to the container, which writes the bytes
+// after the controller returns, so it measures handoff rather than transfer.
+@Component
+public class ResumeDownloadMetrics {
+
+    private final LongAdder full = new LongAdder();
+    private final LongAdder partial = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder sendfile = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void recordFull(long bytes, boolean viaSendfile, long nanos) {
+        full.increment();
+        served(bytes, viaSendfile, nanos);
+    }
+
+    public void recordPartial(long bytes, boolean viaSendfile, long nanos) {
+        partial.increment();
+        served(bytes, viaSendfile, nanos);
+    }
+
+    public void recordNotModified(long nanos) {
+        notModified.increment();
+        timed(nanos);
+    }
+
+    public Stats stats() {
+        long count = full.sum() + partial.sum() + notModified.sum();
+        return new Stats(full.sum(), partial.sum(), notModified.sum(), sendfile.sum(), bytesServed.sum(),
+                count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count, maxNanos.get() / 1_000_000.0);
+    }
+
+    private void served(long bytes, boolean viaSendfile, long nanos) {
+        bytesServed.add(bytes);
+        if (viaSendfile) {
+            sendfile.increment();
+        }
+        timed(nanos);
+    }
+
+    private void timed(long nanos) {
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public record Stats(long full, long partial, long notModified, long sendfile, long bytesServed,
+                        double averageMillis, double maxMillis) {}
+}
@@ -0,0 +1,245 @@
+package com.jobplatform.storage;
+
+import com.jobplatform.cache.BoundedCache;
+import com.jobplatform.config.FileStorageConfig;
+import com.jobplatform.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Content-addressed resume store. Uploads are named after the SHA-256 of their
+// bytes (plus the original extension), so a seeker who sends the same resume to
+// many jobs stores it once. A blob's references are the applications whose
+// resumeFilename points at it; release() deletes blobs that no application uses.
+// Where a blob lives on disk is decided by UploadPathResolver.
+//
+// The multipart resolver spools parts to FileStorageConfig.INCOMING_DIR on the
+// same filesystem, and handing transferTo an absolute File lets the container
+// rename that spool file instead of copying the bytes a second time.
+@Component
+public class ResumeStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeStorage.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // A blob written this recently may belong to an application that is not saved yet
+    private static final long RELEASE_GRACE_MILLIS = 10 * 60 * 1000;
+
+    private final Path incomingPath = Paths.get(FileStorageConfig.INCOMING_DIR);
+
+    // Resume formats accepted for upload and served from /uploads; anything else
+    // (.html, .svg, ...) could run as active content in this origin
+    private static final Set<String> RESUME_EXTENSIONS = Set.of("pdf", "doc", "docx", "txt");
+
+    // Content-addressed names look like "<64 hex digits>.<ext>"
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]{1,10})?");
+
+    // SHA-256 of legacy files, keyed by name, size and modification time
+    private final BoundedCache<String, String> legacyHashes = new BoundedCache<>(10_000, 24 * 60 * 60 * 1000L);
+
+    // Serializes store and release of the same blob
+    private final Object[] locks = new Object[64];
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UploadPathResolver uploadPathResolver;
+
+    public ResumeStorage() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public StoredResume store(MultipartFile resume) throws IOException {
+        PendingResume pending = prepare(resume);
+        try {
+            return commit(pending);
+        } finally {
+            discard(pending);
+        }
+    }
+
+    // Spools and hashes an upload without making it visible, so the caller can
+    // learn its final name and decide whether to keep it
+    public PendingResume prepare(MultipartFile resume) throws IOException {
+        if (!isResumeType(resume.getOriginalFilename())) {
+            throw new IllegalArgumentException("Unsupported resume type");
+        }
+        Files.createDirectories(incomingPath);
+
+        File incoming = incomingPath.resolve(UUID.randomUUID() + ".part").toAbsolutePath().toFile();
+        resume.transferTo(incoming);
+        String sha256 = sha256(incoming.toPath());
+        String resumeFilename = sha256 + extension(safeName(resume.getOriginalFilename()));
+        return new PendingResume(incoming.toPath(), resumeFilename, sha256, incoming.length());
+    }
+
+    // Moves a prepared upload into place, or drops it if the same content is already stored
+    public StoredResume commit(PendingResume pending) throws IOException {
+        synchronized (lockFor(pending.filename())) {
+            Path target = uploadPathResolver.locate(pending.filename());
+            if (Files.exists(target)) {
+                Files.delete(pending.spool());
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(pending.spool(), target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        return new StoredResume(pending.filename(), pending.sha256(), pending.size());
+    }
+
+    // Removes the spool file of an upload that was not committed; a no-op after commit
+    public void discard(PendingResume pending) {
+        try {
+            Files.deleteIfExists(pending.spool());
+        } catch (IOException e) {
+            logger.warn("Could not delete spooled resume {}", pending.spool(), e);
+        }
+    }
+
+    // Deletes the given blobs that no application references any more
+    public void release(Collection<String> resumeFilenames) {
+        for (String resumeFilename : resumeFilenames) {
+            if (!UploadPathResolver.isValidName(resumeFilename)) {
+                continue;
+            }
+            synchronized (lockFor(resumeFilename)) {
+                try {
+                    Path target = uploadPathResolver.locate(resumeFilename);
+                    if (!Files.exists(target)
+                            || Files.getLastModifiedTime(target).toMillis() > System.currentTimeMillis() - RELEASE_GRACE_MILLIS
+                            || applicationRepository.countByResumeFilename(resumeFilename) > 0) {
+                        continue;
+                    }
+                    Files.delete(target);
+                } catch (IOException e) {
+                    logger.warn("Could not delete unreferenced resume {}", resumeFilename, e);
+                }
+            }
+        }
+    }
+
+    // Moves a file from the flat legacy layout to its shard. Holding the blob lock
+    // keeps this from racing a store() that deduplicates against the same file.
+    public MoveResult moveToShard(String filename) throws IOException {
+        synchronized (lockFor(filename)) {
+            Path legacy = uploadPathResolver.legacyPath(filename);
+            if (!Files.isRegularFile(legacy)) {
+                return MoveResult.MISSING;
+            }
+            Path sharded = uploadPathResolver.shardedPath(filename);
+            if (Files.exists(sharded)) {
+                // Same name means same content for content-addressed blobs
+                Files.delete(legacy);
+                return MoveResult.DUPLICATE;
+            }
+            Files.createDirectories(sharded.getParent());
+            Files.move(legacy, sharded, StandardCopyOption.ATOMIC_MOVE);
+            return MoveResult.MOVED;
+        }
+    }
+
+    // Content hash of a stored resume: read from the name of content-addressed
+    // blobs, computed once and cached for files written before content addressing
+    public String contentHash(String filename, Path file) throws IOException {
+        Matcher matcher = CONTENT_ADDRESSED.matcher(filename);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        String key = filename + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+        String hash = legacyHashes.get(key);
+        if (hash == null) {
+            hash = sha256(file);
+            legacyHashes.put(key, hash);
+        }
+        return hash;
+    }
+
+    // Whether a client or stored filename has one of the accepted resume extensions
+    public static boolean isResumeType(String filename) {
+        if (filename == null) {
+            return false;
+        }
+        String extension = extension(safeName(filename));
+        return !extension.isEmpty() && RESUME_EXTENSIONS.contains(extension.substring(1));
+    }
+
+    // Content-addressed blobs never change under their name
+    public static boolean isImmutable(String filename) {
+        return CONTENT_ADDRESSED.matcher(filename).matches();
+    }
+
+    private Object lockFor(String resumeFilename) {
+        return locks[Math.floorMod(resumeFilename.hashCode(), locks.length)];
+    }
+
+    // ".pdf" style suffix of a client filename, or "" if it has none worth keeping
+    private static String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+    }
+
+    // Keeps only the last path segment so a crafted name cannot escape the uploads directory
+    private static String safeName(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "resume";
+        }
+        String name = originalFilename.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1);
+        return name.isBlank() || name.equals("..") ? "resume" : name;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public enum MoveResult { MOVED, DUPLICATE, MISSING }
+
+    public record PendingResume(Path spool, String filename, String sha256, long size) {}
+
+    public record StoredResume(String filename, String sha256, long size) {}
+}
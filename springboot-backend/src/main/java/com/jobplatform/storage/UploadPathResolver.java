@@ -0,0 +1,74 @@
+package com.jobplatform.storage;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// Maps an upload filename to its place on disk. Files live two shard levels
+// deep, uploads/ab/cd/<filename>, where "abcd" are the first hex digits of the
+// SHA-256 of the filename, so no directory grows past a few thousand entries.
+// Files written before sharding stay directly under uploads/ until
+// UploadShardMigrator moves them; locate() finds either.
+@Component
+public class UploadPathResolver {
+
+    public static final String UPLOADS_DIR = "uploads";
+
+    private final Path root = Paths.get(UPLOADS_DIR);
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // Where the file belongs in the sharded layout
+    public Path shardedPath(String filename) {
+        String hash = HexFormat.of().formatHex(digest(checkedName(filename)), 0, 2);
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(filename);
+    }
+
+    // Where the file sat in the original flat layout
+    public Path legacyPath(String filename) {
+        return root.resolve(checkedName(filename));
+    }
+
+    // Existing location of the file, preferring the sharded one. The sharded path
+    // is checked again last so a file migrated between the two checks is found.
+    public Path locate(String filename) {
+        Path sharded = shardedPath(filename);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        Path legacy = legacyPath(filename);
+        if (Files.exists(legacy)) {
+            return legacy;
+        }
+        return sharded;
+    }
+
+    // Upload names are single path segments; anything else cannot be one of ours
+    public static boolean isValidName(String filename) {
+        return filename != null && !filename.isEmpty() && !filename.equals(".") && !filename.equals("..")
+                && filename.indexOf('/') < 0 && filename.indexOf('\\') < 0;
+    }
+
+    private static String checkedName(String filename) {
+        if (!isValidName(filename)) {
+            throw new IllegalArgumentException("Invalid upload filename");
+        }
+        return filename;
+    }
+
+    private static byte[] digest(String filename) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(filename.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobplatform.storage;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Serves /uploads/<filename> from wherever UploadPathResolver keeps the file, so
+// public URLs stay flat while the files on disk are sharded or mid-migration.
+// Only resume formats are served; a legacy upload of any other type is still
+// available as an attachment from /api/resumes/{filename}.
+public class UploadResourceResolver extends PathResourceResolver {
+
+    private final UploadPathResolver uploadPathResolver;
+
+    public UploadResourceResolver(UploadPathResolver uploadPathResolver) {
+        this.uploadPathResolver = uploadPathResolver;
+    }
+
+    @Override
+    protected Resource getResource(String resourcePath, Resource location) {
+        if (!UploadPathResolver.isValidName(resourcePath) || !ResumeStorage.isResumeType(resourcePath)) {
+            return null;
+        }
+        Path file = uploadPathResolver.locate(resourcePath);
+        return Files.isRegularFile(file) ? new FileSystemResource(file) : null;
+    }
+}
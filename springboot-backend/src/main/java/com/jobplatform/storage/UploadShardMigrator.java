@@ -0,0 +1,120 @@
+package com.jobplatform.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Moves files from the flat uploads/ directory into their shards while the
+// application keeps serving. The root is streamed rather than listed, each file
+// is moved with a single rename, and readers fall back to the flat path until
+// the rename lands, so nothing becomes unreachable along the way. Only one run
+// happens at a time; a later run simply picks up whatever is still flat.
+@Component
+public class UploadShardMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadShardMigrator.class);
+
+    @Autowired
+    private UploadPathResolver uploadPathResolver;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Value("${storage.uploads.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    // Pause after every batch so a large migration does not saturate the disk
+    @Value("${storage.uploads.migration-batch-size:500}")
+    private int batchSize;
+
+    @Value("${storage.uploads.migration-pause-millis:50}")
+    private long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder moved = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void migrateOnStartup() {
+        if (migrateOnStartup) {
+            start();
+        }
+    }
+
+    // Starts a background run; returns false if one is already in progress
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        moved.reset();
+        duplicates.reset();
+        failed.reset();
+        startedAt = Instant.now();
+        finishedAt = null;
+
+        Thread thread = new Thread(this::run, "upload-shard-migration");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public Status status() {
+        return new Status(running.get(), moved.sum(), duplicates.sum(), failed.sum(), startedAt, finishedAt);
+    }
+
+    private void run() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(uploadPathResolver.getRoot(), Files::isRegularFile)) {
+            int inBatch = 0;
+            for (Path file : files) {
+                migrate(file.getFileName().toString());
+                if (++inBatch == batchSize) {
+                    inBatch = 0;
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Upload shard migration aborted", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finishedAt = Instant.now();
+            running.set(false);
+            logger.info("Upload shard migration finished: {} moved, {} duplicates removed, {} failed",
+                    moved.sum(), duplicates.sum(), failed.sum());
+        }
+    }
+
+    private void migrate(String filename) {
+        if (!UploadPathResolver.isValidName(filename)) {
+            return;
+        }
+        try {
+            switch (resumeStorage.moveToShard(filename)) {
+                case MOVED -> moved.increment();
+                case DUPLICATE -> duplicates.increment();
+                case MISSING -> { }
+            }
+        } catch (IOException e) {
+            failed.increment();
+            logger.warn("Could not move {} into its shard", filename, e);
+        }
+    }
+
+    public record Status(boolean running, long moved, long duplicates, long failed,
+                         Instant startedAt, Instant finishedAt) {}
+}
@@ -0,0 +1,43 @@
+package com.jobplatform.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeControllerTest {
+
+    @Test
+    void servesTheWholeFileWithoutAUsableRange() {
+        assertThat(ResumeController.parseRange(null, 100)).isNull();
+        assertThat(ResumeController.parseRange("items=0-10", 100)).isNull();
+        assertThat(ResumeController.parseRange("bytes=0-10,20-30", 100)).isNull();
+        assertThat(ResumeController.parseRange("bytes=10", 100)).isNull();
+        assertThat(ResumeController.parseRange("bytes=a-b", 100)).isNull();
+    }
+
+    @Test
+    void parsesClosedRanges() {
+        assertThat(ResumeController.parseRange("bytes=0-9", 100)).containsExactly(0L, 9L);
+        assertThat(ResumeController.parseRange("bytes=50-50", 100)).containsExactly(50L, 50L);
+    }
+
+    @Test
+    void clampsTheLastByteToTheFile() {
+        assertThat(ResumeController.parseRange("bytes=90-", 100)).containsExactly(90L, 99L);
+        assertThat(ResumeController.parseRange("bytes=90-1000", 100)).containsExactly(90L, 99L);
+    }
+
+    @Test
+    void parsesSuffixRanges() {
+        assertThat(ResumeController.parseRange("bytes=-10", 100)).containsExactly(90L, 99L);
+        assertThat(ResumeController.parseRange("bytes=-500", 100)).containsExactly(0L, 99L);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() {
+        assertThat(ResumeController.parseRange("bytes=100-", 100)).isEmpty();
+        assertThat(ResumeController.parseRange("bytes=20-10", 100)).isEmpty();
+        assertThat(ResumeController.parseRange("bytes=-0", 100)).isEmpty();
+        assertThat(ResumeController.parseRange("bytes=0-", 0)).isEmpty();
+    }
+}
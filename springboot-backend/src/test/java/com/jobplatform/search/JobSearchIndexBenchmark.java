@@ -0,0 +1,96 @@
+package com.jobplatform.search;
+
+import com.jobplatform.entity.Job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Reproducible size/latency measurement for JobSearchIndex over a synthetic catalog.
+// Not part of the test run; start it with the catalog sizes to try, e.g.
+//   java -Xmx4g -cp target/classes:target/test-classes com.jobplatform.search.JobSearchIndexBenchmark 100000 1000000
+public final class JobSearchIndexBenchmark {
+
+    private static final String[] TITLES = {"Software Engineer", "Data Scientist", "Product Manager", "DevOps Engineer",
+        "Frontend Developer", "Backend Developer", "QA Analyst", "Site Reliability Engineer", "Designer", "Architect"};
+    private static final String[] LEVELS = {"Junior", "Senior", "Staff", "Principal", "Lead", ""};
+    private static final String[] LOCATIONS = {"Berlin", "London", "New York", "San Francisco", "Remote", "Toronto",
+        "Bangalore", "Singapore", "Sydney", "Paris"};
+    private static final String[] SKILLS = {"Java", "JavaScript", "TypeScript", "Python", "Go", "Rust", "Kotlin", "SQL",
+        "Kubernetes", "AWS", "React", "Spring", "Docker", "Terraform", "Scala", "C++"};
+    private static final String[] QUERIES = {"ja", "q", "java", "script", "engineer", "remote", "senior data", "zzz"};
+
+    private JobSearchIndexBenchmark() {}
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[] {100_000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        List<Job> jobs = catalog(size, new Random(42));
+        long heapBefore = usedHeap();
+        JobSearchIndex index = new JobSearchIndex();
+        long start = System.nanoTime();
+        index.rebuild(jobs);
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        long indexBytes = usedHeap() - heapBefore;
+        System.out.printf("%,d jobs: rebuild %,d ms, index ~%,d MB (%,d bytes/job)%n",
+                size, buildMillis, indexBytes >> 20, indexBytes / size);
+
+        for (String query : QUERIES) {
+            for (int i = 0; i < 5; i++) {
+                index.search(query, 0, 20, null, false);
+            }
+            int rounds = 20;
+            long total = 0;
+            long hits = 0;
+            for (int i = 0; i < rounds; i++) {
+                long t = System.nanoTime();
+                hits = index.search(query, 0, 20, null, false).total();
+                total += System.nanoTime() - t;
+            }
+            System.out.printf("  search %-14s %,10d hits  %8.2f ms%n", "\"" + query + "\"", hits, total / 1e6 / rounds);
+        }
+
+        int removals = Math.max(1, size / 100);
+        start = System.nanoTime();
+        for (int i = 0; i < removals; i++) {
+            index.remove(jobs.get(i * 100).getJobId());
+        }
+        System.out.printf("  removed %,d jobs: %.3f ms each; %,d slots for %,d live jobs%n",
+                removals, (System.nanoTime() - start) / 1e6 / removals, index.slots(), size - removals);
+    }
+
+    private static List<Job> catalog(int size, Random random) {
+        List<Job> jobs = new ArrayList<>(size);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            String title = (LEVELS[random.nextInt(LEVELS.length)] + " " + TITLES[random.nextInt(TITLES.length)]).trim();
+            List<String> skills = new ArrayList<>();
+            for (int s = random.nextInt(5); s >= 0; s--) {
+                skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+            }
+            Job job = new Job("job-" + i, "employer-" + random.nextInt(size / 10 + 1), title,
+                    "Company " + random.nextInt(size / 5 + 1), LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    null, null, null, skills, null);
+            job.setCreatedAt(base.plusSeconds(i));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
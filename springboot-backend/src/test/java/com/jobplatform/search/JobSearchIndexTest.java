@@ -0,0 +1,135 @@
+package com.jobplatform.search;
+
+import com.jobplatform.dto.JobCursor;
+import com.jobplatform.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.rebuild(List.of(
+                job("job-1", 1, "Java Developer", "Acme", "Berlin", "Java", "SQL"),
+                job("job-2", 2, "Frontend Engineer", "Globex", "Remote", "JavaScript", "React"),
+                job("job-3", 3, "Data Scientist", "Initech", "London", "Python"),
+                job("job-4", 4, "QA Analyst", "Acme", "Paris", "C")));
+    }
+
+    @Test
+    void matchesAnyFieldCaseInsensitivelyNewestFirst() {
+        JobSearchIndex.Hits hits = index.search("ACME", 0, 10, null, false);
+
+        assertThat(hits.jobIds()).containsExactly("job-4", "job-1");
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.hasMore()).isFalse();
+    }
+
+    @Test
+    void matchesInfixes() {
+        assertThat(index.search("script", 0, 10, null, false).jobIds()).containsExactly("job-2");
+        assertThat(index.search("java", 0, 10, null, false).jobIds()).containsExactly("job-2", "job-1");
+    }
+
+    @Test
+    void matchesNeedlesShorterThanATrigram() {
+        assertThat(index.search("ja", 0, 10, null, false).jobIds()).containsExactly("job-2", "job-1");
+        assertThat(index.search("q", 0, 10, null, false).jobIds()).containsExactly("job-4", "job-1");
+        assertThat(index.search("c", 0, 10, null, false).jobIds()).contains("job-4");
+        assertThat(index.search("zz", 0, 10, null, false).total()).isZero();
+    }
+
+    @Test
+    void pagesByOffsetAndCursor() {
+        JobSearchIndex.Hits first = index.search("a", 0, 2, null, true);
+
+        assertThat(first.jobIds()).containsExactly("job-4", "job-3");
+        assertThat(first.total()).isEqualTo(4);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(first.matchedJobIds()).containsExactly("job-4", "job-3", "job-2", "job-1");
+
+        assertThat(index.search("a", 2, 2, null, false).jobIds()).containsExactly("job-2", "job-1");
+
+        JobCursor after = new JobCursor(BASE.plusMinutes(3), "job-3");
+        JobSearchIndex.Hits next = index.search("a", 0, 2, after, false);
+        assertThat(next.jobIds()).containsExactly("job-2", "job-1");
+        assertThat(next.total()).isEqualTo(4);
+        assertThat(next.hasMore()).isFalse();
+    }
+
+    @Test
+    void reindexReplacesTheOldFields() {
+        index.index(job("job-1", 1, "Kotlin Developer", "Acme", "Berlin", "Kotlin"));
+
+        assertThat(index.search("java", 0, 10, null, false).jobIds()).containsExactly("job-2");
+        assertThat(index.search("kotlin", 0, 10, null, false).jobIds()).containsExactly("job-1");
+        assertThat(index.search("ko", 0, 10, null, false).jobIds()).containsExactly("job-1");
+    }
+
+    @Test
+    void indexAddsNewJobs() {
+        index.index(job("job-5", 5, "Rust Engineer", "Hooli", "Remote", "Rust"));
+
+        assertThat(index.search("remote", 0, 10, null, false).jobIds()).containsExactly("job-5", "job-2");
+    }
+
+    @Test
+    void removedJobsStopMatching() {
+        index.remove("job-2");
+        index.remove("missing");
+
+        assertThat(index.search("java", 0, 10, null, false).jobIds()).containsExactly("job-1");
+        assertThat(index.search("sc", 0, 10, null, false).jobIds()).containsExactly("job-3");
+        assertThat(index.search("a", 0, 10, null, false).total()).isEqualTo(3);
+    }
+
+    @Test
+    void compactsOnceEnoughJobsAreRemoved() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            jobs.add(job("bulk-" + i, i, i % 2 == 0 ? "Java Developer" : "Go Developer", "Acme", "Berlin"));
+        }
+        index.rebuild(jobs);
+
+        for (int i = 0; i < 1023; i++) {
+            index.remove("bulk-" + i);
+        }
+        assertThat(index.slots()).isEqualTo(2000);
+
+        index.remove("bulk-1023");
+        assertThat(index.slots()).isEqualTo(976);
+
+        JobSearchIndex.Hits hits = index.search("java", 0, 2, null, false);
+        assertThat(hits.jobIds()).containsExactly("bulk-1998", "bulk-1996");
+        assertThat(hits.total()).isEqualTo(488);
+        assertThat(index.search("go", 0, 10, null, false).total()).isEqualTo(488);
+
+        index.index(job("bulk-1998", 1998, "Go Developer", "Acme", "Berlin"));
+        assertThat(index.search("java", 0, 1, null, false).jobIds()).containsExactly("bulk-1996");
+    }
+
+    @Test
+    void leavesLikeSyntaxToTheDatabase() {
+        assertThat(index.supports("java")).isTrue();
+        assertThat(index.supports("100%")).isFalse();
+        assertThat(index.supports("a_b")).isFalse();
+        assertThat(new JobSearchIndex().supports("java")).isFalse();
+    }
+
+    private static Job job(String jobId, int minute, String title, String company, String location, String... skills) {
+        Job job = new Job(jobId, "employer-1", title, company, location, null, null, null, List.of(skills), null);
+        job.setCreatedAt(BASE.plusMinutes(minute));
+        return job;
+    }
+}
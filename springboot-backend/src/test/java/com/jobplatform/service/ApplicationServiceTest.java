@@ -0,0 +1,232 @@
+package com.jobplatform.service;
+
+import com.jobplatform.dto.ApplicationOwnership;
+import com.jobplatform.dto.BulkStatusUpdateRequest;
+import com.jobplatform.dto.BulkStatusUpdateResponse;
+import com.jobplatform.entity.Application;
+import com.jobplatform.repository.ApplicationRepository;
+import com.jobplatform.search.ResumeIndexingPipeline;
+import com.jobplatform.storage.ResumeStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ResumeStorage resumeStorage;
+
+    @Mock
+    private ResumeIndexingPipeline resumeIndexingPipeline;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobApplicationStatsService jobApplicationStatsService;
+
+    @InjectMocks
+    private ApplicationService applicationService;
+
+    private final MockMultipartFile resume =
+            new MockMultipartFile("resume", "cv.pdf", "application/pdf", new byte[] {1, 2, 3});
+    private final ResumeStorage.PendingResume pending =
+            new ResumeStorage.PendingResume(Path.of("spool.tmp"), "abc.pdf", "abc", 3);
+
+    @Test
+    void createApplicationInsertsAndCommitsTheResume() throws IOException {
+        runTransactionsInline();
+
+        ApplicationService.ApplyResult result = apply("key-1");
+
+        assertThat(result.outcome()).isEqualTo(ApplicationService.ApplyOutcome.CREATED);
+        assertThat(result.application().getResumeFilename()).isEqualTo("abc.pdf");
+        assertThat(result.application().getIdempotencyKey()).isEqualTo("key-1");
+        verify(jobApplicationStatsService).applicationAdded("job-1", "applied");
+        verify(resumeStorage).commit(pending);
+        verify(resumeIndexingPipeline).wake();
+        verify(resumeStorage).discard(pending);
+    }
+
+    @Test
+    void createApplicationReplaysARetryWithTheSameKey() throws IOException {
+        failInsertAsDuplicate();
+        Application existing = existingApplication("key-1");
+        when(applicationRepository.findByJobIdAndApplicantId("job-1", "seeker-1")).thenReturn(Optional.of(existing));
+
+        ApplicationService.ApplyResult result = apply("key-1");
+
+        assertThat(result.outcome()).isEqualTo(ApplicationService.ApplyOutcome.REPLAYED);
+        assertThat(result.application()).isSameAs(existing);
+        verify(resumeStorage, never()).commit(any());
+        verify(resumeIndexingPipeline, never()).wake();
+        verify(resumeStorage).discard(pending);
+    }
+
+    @Test
+    void createApplicationRejectsASecondApplication() throws IOException {
+        failInsertAsDuplicate();
+        when(applicationRepository.findByJobIdAndApplicantId("job-1", "seeker-1"))
+                .thenReturn(Optional.of(existingApplication("key-1")));
+
+        assertThat(apply("key-2").outcome()).isEqualTo(ApplicationService.ApplyOutcome.ALREADY_APPLIED);
+        assertThat(apply(null).outcome()).isEqualTo(ApplicationService.ApplyOutcome.ALREADY_APPLIED);
+        verify(resumeStorage, times(2)).discard(pending);
+    }
+
+    @Test
+    void createApplicationRethrowsViolationsOtherThanADuplicate() throws IOException {
+        DataIntegrityViolationException violation = failInsertAsDuplicate();
+        when(applicationRepository.findByJobIdAndApplicantId("job-1", "seeker-1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> apply("key-1")).isSameAs(violation);
+        verify(resumeStorage).discard(pending);
+    }
+
+    @Test
+    void updateApplicationStatusesReportsEveryItem() {
+        when(applicationRepository.findOwnership(anyCollection())).thenReturn(
+                List.of(owned("a1", "applied"), owned("a2", "approved"), owned("a6", "applied"), owned("a7", "applied"),
+                        new ApplicationOwnership("a3", "job-2", "applied", "employer-2"),
+                        new ApplicationOwnership("a8", "job-3", "applied", null)),
+                // Re-read after the UPDATE moved only a1: a6 was rejected and a7 approved meanwhile
+                List.of(owned("a1", "approved"), owned("a6", "rejected"), owned("a7", "approved")));
+        when(applicationRepository.updateStatusFrom(List.of("a1", "a6", "a7"), "applied", "approved")).thenReturn(1);
+
+        BulkStatusUpdateResponse response = applicationService.updateApplicationStatuses("employer-1", List.of(
+                item("a1", "approved"), item("a2", "approved"), item("a3", "approved"), item("a4", "approved"),
+                item("a1", "rejected"), item("a5", "hired"), item("a6", "approved"), item("a7", "approved"),
+                item("a8", "approved")));
+
+        assertThat(results(response)).containsExactly("a1:updated", "a2:updated", "a3:forbidden", "a4:not_found",
+                "a1:duplicate", "a5:invalid_status", "a6:conflict", "a7:updated", "a8:not_found");
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getSkipped()).isEqualTo(6);
+        verify(jobApplicationStatsService).statusChanged("job-1", "applied", "approved", 1);
+    }
+
+    @Test
+    void updateApplicationStatusesGroupsMovesAndSkipsTheReReadWhenAllMoved() {
+        when(applicationRepository.findOwnership(anyCollection())).thenReturn(
+                List.of(owned("a1", "applied"), owned("a2", "applied"), owned("a3", "waitlisted")));
+        when(applicationRepository.updateStatusFrom(List.of("a1", "a2"), "applied", "approved")).thenReturn(2);
+        when(applicationRepository.updateStatusFrom(List.of("a3"), "waitlisted", "approved")).thenReturn(1);
+
+        BulkStatusUpdateResponse response = applicationService.updateApplicationStatuses("employer-1", List.of(
+                item("a1", "approved"), item("a2", "approved"), item("a3", "approved")));
+
+        assertThat(results(response)).containsExactly("a1:updated", "a2:updated", "a3:updated");
+        assertThat(response.getUpdated()).isEqualTo(3);
+        assertThat(response.getSkipped()).isZero();
+        verify(applicationRepository, times(1)).findOwnership(anyCollection());
+        verify(jobApplicationStatsService).statusChanged("job-1", "applied", "approved", 2);
+        verify(jobApplicationStatsService).statusChanged("job-1", "waitlisted", "approved", 1);
+    }
+
+    @Test
+    void updateApplicationStatusesLeavesCountersAloneWhenNothingMoves() {
+        when(applicationRepository.findOwnership(anyCollection())).thenReturn(List.of(owned("a1", "approved")));
+
+        BulkStatusUpdateResponse response = applicationService.updateApplicationStatuses("employer-1",
+                List.of(item("a1", "approved")));
+
+        assertThat(results(response)).containsExactly("a1:updated");
+        verify(applicationRepository, never()).updateStatusFrom(anyCollection(), anyString(), anyString());
+        verify(jobApplicationStatsService, never()).statusChanged(anyString(), anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void updateApplicationStatusMovesOwnedApplicationsInOneStatement() {
+        when(applicationRepository.updateStatusIfOwned("a1", "employer-1", "approved"))
+                .thenReturn(List.<Object[]>of(new Object[] {"job-1", "applied"}));
+
+        assertThat(applicationService.updateApplicationStatus("a1", "employer-1", "approved"))
+                .isEqualTo(ApplicationService.StatusUpdateResult.UPDATED);
+        verify(applicationRepository, never()).findOwnershipById(anyString());
+        verify(jobApplicationStatsService).statusChanged("job-1", "applied", "approved", 1);
+    }
+
+    @Test
+    void updateApplicationStatusReadsOnlyWhenNothingMoved() {
+        when(applicationRepository.updateStatusIfOwned(anyString(), anyString(), anyString())).thenReturn(List.of());
+        when(applicationRepository.findOwnershipById("a1")).thenReturn(Optional.of(owned("a1", "approved")));
+        when(applicationRepository.findOwnershipById("a2"))
+                .thenReturn(Optional.of(new ApplicationOwnership("a2", "job-2", "applied", "employer-2")));
+        when(applicationRepository.findOwnershipById("a3")).thenReturn(Optional.empty());
+
+        assertThat(applicationService.updateApplicationStatus("a1", "employer-1", "approved"))
+                .isEqualTo(ApplicationService.StatusUpdateResult.UPDATED);
+        assertThat(applicationService.updateApplicationStatus("a2", "employer-1", "approved"))
+                .isEqualTo(ApplicationService.StatusUpdateResult.FORBIDDEN);
+        assertThat(applicationService.updateApplicationStatus("a3", "employer-1", "approved"))
+                .isEqualTo(ApplicationService.StatusUpdateResult.NOT_FOUND);
+        verify(jobApplicationStatsService, never()).statusChanged(anyString(), anyString(), anyString(), anyInt());
+    }
+
+    private ApplicationService.ApplyResult apply(String idempotencyKey) throws IOException {
+        when(resumeStorage.prepare(resume)).thenReturn(pending);
+        return applicationService.createApplication("job-1", "seeker-1", "Sam Seeker", "sam@example.com",
+                                                    null, null, resume, idempotencyKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private DataIntegrityViolationException failInsertAsDuplicate() {
+        runTransactionsInline();
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("uk_applications_job_applicant");
+        when(applicationRepository.insert(any(Application.class))).thenThrow(violation);
+        return violation;
+    }
+
+    private static ApplicationOwnership owned(String applicationId, String status) {
+        return new ApplicationOwnership(applicationId, "job-1", status, "employer-1");
+    }
+
+    private static BulkStatusUpdateRequest.Item item(String applicationId, String status) {
+        return new BulkStatusUpdateRequest.Item(applicationId, status);
+    }
+
+    private static List<String> results(BulkStatusUpdateResponse response) {
+        return response.getResults().stream().map(r -> r.getApplicationId() + ":" + r.getResult()).toList();
+    }
+
+    private static Application existingApplication(String idempotencyKey) {
+        Application application = new Application("app-0", "job-1", "seeker-1", "Sam Seeker", "sam@example.com",
+                                                  null, null, "old.pdf", "applied");
+        application.setIdempotencyKey(idempotencyKey);
+        return application;
+    }
+}